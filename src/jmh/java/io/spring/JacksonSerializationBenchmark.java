@@ -0,0 +1,63 @@
+package io.spring;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.application.data.ArticleData;
+import io.spring.application.data.ArticleDataList;
+import io.spring.application.data.ProfileData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonSerializationBenchmark {
+  private static final int PAGE_SIZE = 20;
+
+  private ObjectMapper objectMapper;
+  private DateTime dateTime;
+  private ArticleDataList page;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new ObjectMapper().registerModule(new JacksonCustomizations.RealWorldModules());
+    dateTime = new DateTime(1_600_000_000_000L);
+    List<ArticleData> articles = new ArrayList<>();
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      articles.add(
+          new ArticleData(
+              "id-" + i,
+              "article-" + i,
+              "Article " + i,
+              "Description of article " + i,
+              "Body of article " + i + " with a few paragraphs of markdown text.",
+              i % 2 == 0,
+              i,
+              dateTime,
+              dateTime,
+              Arrays.asList("java", "spring", "mybatis"),
+              new ProfileData("user-" + i, "author" + i, "bio", "image", false)));
+    }
+    page = new ArticleDataList(articles, 1000);
+  }
+
+  @Benchmark
+  public String serializeDateTime() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(dateTime);
+  }
+
+  @Benchmark
+  public byte[] serializeArticlePage() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(page);
+  }
+}
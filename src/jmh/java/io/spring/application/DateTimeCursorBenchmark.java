@@ -0,0 +1,35 @@
+package io.spring.application;
+
+import java.util.concurrent.TimeUnit;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateTimeCursorBenchmark {
+  private DateTimeCursor cursor;
+  private String encoded;
+
+  @Setup
+  public void setUp() {
+    cursor = new DateTimeCursor(new DateTime(1_600_000_000_000L));
+    encoded = cursor.toString();
+  }
+
+  @Benchmark
+  public String encode() {
+    return cursor.toString();
+  }
+
+  @Benchmark
+  public DateTime parse() {
+    return DateTimeCursor.parse(encoded);
+  }
+}
@@ -0,0 +1,28 @@
+package io.spring.core.article;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArticleSlugBenchmark {
+
+  @Param({
+    "How to train your dragon",
+    "  Spring Boot & MyBatis: a 10-step guide, with examples!  ",
+    "中文标题 mixed with English words and punctuation?"
+  })
+  public String title;
+
+  @Benchmark
+  public String toSlug() {
+    return Article.toSlug(title);
+  }
+}
@@ -0,0 +1,41 @@
+package io.spring.infrastructure.service;
+
+import io.spring.core.user.User;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+  private static final String SECRET =
+      "nRvyYC4soFxBdZ-F-5Nnzz5USXstR1YylsTd-mA0aKtI9HUlriGrtkf-TiuDapkLiUCogO3JOK7kwZisrHp6wA";
+
+  private DefaultJwtService jwtService;
+  private User user;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtService = new DefaultJwtService(SECRET, 86400);
+    user = new User("john@jacob.com", "johnjacob", "123", "", "");
+    token = jwtService.toToken(user);
+  }
+
+  @Benchmark
+  public String toToken() {
+    return jwtService.toToken(user);
+  }
+
+  @Benchmark
+  public Optional<String> getSubFromToken() {
+    return jwtService.getSubFromToken(token);
+  }
+}
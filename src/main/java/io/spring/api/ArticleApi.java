@@ -1,5 +1,6 @@
 package io.spring.api;
 
+import io.spring.api.cache.ETags;
 import io.spring.api.exception.NoAuthorizationException;
 import io.spring.api.exception.ResourceNotFoundException;
 import io.spring.application.ArticleQueryService;
@@ -23,6 +24,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping(path = "/articles/{slug}")
@@ -34,11 +36,16 @@ public class ArticleApi {
 
   @GetMapping
   public ResponseEntity<?> article(
-      @PathVariable("slug") String slug, @AuthenticationPrincipal User user) {
-    return articleQueryService
-        .findBySlug(slug, user)
-        .map(articleData -> ResponseEntity.ok(articleResponse(articleData)))
-        .orElseThrow(ResourceNotFoundException::new);
+      @PathVariable("slug") String slug,
+      @AuthenticationPrincipal User user,
+      WebRequest webRequest) {
+    ArticleData articleData =
+        articleQueryService.findBySlug(slug, user).orElseThrow(ResourceNotFoundException::new);
+    // no Last-Modified: favorites and viewer flags change without touching updatedAt
+    if (webRequest.checkNotModified(articleETag(articleData))) {
+      return null;
+    }
+    return ResponseEntity.ok(articleResponse(articleData));
   }
 
   @PutMapping
@@ -78,6 +85,15 @@ public class ArticleApi {
         .orElseThrow(ResourceNotFoundException::new);
   }
 
+  private String articleETag(ArticleData articleData) {
+    return ETags.strong(
+        articleData.getId(),
+        articleData.getUpdatedAt().getMillis(),
+        articleData.getFavoritesCount(),
+        articleData.isFavorited(),
+        ETags.profileVersion(articleData.getProfileData()));
+  }
+
   private Map<String, Object> articleResponse(ArticleData articleData) {
     return new HashMap<String, Object>() {
       {
@@ -1,5 +1,6 @@
 package io.spring.api;
 
+import io.spring.application.ArticleProjection;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.Page;
 import io.spring.application.article.ArticleCommandService;
@@ -41,8 +42,10 @@ public class ArticlesApi {
   public ResponseEntity getFeed(
       @RequestParam(value = "offset", defaultValue = "0") int offset,
       @RequestParam(value = "limit", defaultValue = "20") int limit,
+      @RequestParam(value = "view", required = false) String view,
       @AuthenticationPrincipal User user) {
-    return ResponseEntity.ok(articleQueryService.findUserFeed(user, new Page(offset, limit)));
+    return ResponseEntity.ok(
+        articleQueryService.findUserFeed(user, new Page(offset, limit), projectionOf(view)));
   }
 
   @GetMapping
@@ -52,9 +55,14 @@ public class ArticlesApi {
       @RequestParam(value = "tag", required = false) String tag,
       @RequestParam(value = "favorited", required = false) String favoritedBy,
       @RequestParam(value = "author", required = false) String author,
+      @RequestParam(value = "view", required = false) String view,
       @AuthenticationPrincipal User user) {
     return ResponseEntity.ok(
         articleQueryService.findRecentArticles(
-            tag, author, favoritedBy, new Page(offset, limit), user));
+            tag, author, favoritedBy, new Page(offset, limit), user, projectionOf(view)));
+  }
+
+  private ArticleProjection projectionOf(String view) {
+    return "summary".equals(view) ? ArticleProjection.SUMMARY : ArticleProjection.FULL;
   }
 }
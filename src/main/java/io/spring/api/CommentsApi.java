@@ -1,6 +1,7 @@
 package io.spring.api;
 
 import com.fasterxml.jackson.annotation.JsonRootName;
+import io.spring.api.cache.ETags;
 import io.spring.api.exception.NoAuthorizationException;
 import io.spring.api.exception.ResourceNotFoundException;
 import io.spring.application.CommentQueryService;
@@ -14,6 +15,7 @@ import io.spring.core.user.User;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -28,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping(path = "/articles/{slug}/comments")
@@ -52,10 +55,15 @@ public class CommentsApi {
 
   @GetMapping
   public ResponseEntity getComments(
-      @PathVariable("slug") String slug, @AuthenticationPrincipal User user) {
+      @PathVariable("slug") String slug,
+      @AuthenticationPrincipal User user,
+      WebRequest webRequest) {
     Article article =
         articleRepository.findBySlug(slug).orElseThrow(ResourceNotFoundException::new);
     List<CommentData> comments = commentQueryService.findByArticleId(article.getId(), user);
+    if (webRequest.checkNotModified(commentsETag(comments))) {
+      return null;
+    }
     return ResponseEntity.ok(
         new HashMap<String, Object>() {
           {
@@ -64,6 +72,19 @@ public class CommentsApi {
         });
   }
 
+  private String commentsETag(List<CommentData> comments) {
+    return ETags.strong(
+        comments.stream()
+            .map(
+                comment ->
+                    comment.getId()
+                        + "@"
+                        + comment.getCreatedAt().getMillis()
+                        + ":"
+                        + ETags.profileVersion(comment.getProfileData()))
+            .collect(Collectors.joining(";")));
+  }
+
   @RequestMapping(path = "{id}", method = RequestMethod.DELETE)
   public ResponseEntity deleteComment(
       @PathVariable("slug") String slug,
@@ -1,5 +1,6 @@
 package io.spring.api;
 
+import io.spring.api.cache.ETags;
 import io.spring.api.exception.ResourceNotFoundException;
 import io.spring.application.ProfileQueryService;
 import io.spring.application.data.ProfileData;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping(path = "profiles/{username}")
@@ -27,11 +29,17 @@ public class ProfileApi {
 
   @GetMapping
   public ResponseEntity getProfile(
-      @PathVariable("username") String username, @AuthenticationPrincipal User user) {
-    return profileQueryService
-        .findByUsername(username, user)
-        .map(this::profileResponse)
-        .orElseThrow(ResourceNotFoundException::new);
+      @PathVariable("username") String username,
+      @AuthenticationPrincipal User user,
+      WebRequest webRequest) {
+    ProfileData profile =
+        profileQueryService
+            .findByUsername(username, user)
+            .orElseThrow(ResourceNotFoundException::new);
+    if (webRequest.checkNotModified(ETags.strong(ETags.profileVersion(profile)))) {
+      return null;
+    }
+    return profileResponse(profile);
   }
 
   @PostMapping(path = "follow")
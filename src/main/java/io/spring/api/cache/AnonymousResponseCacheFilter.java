@@ -0,0 +1,86 @@
+package io.spring.api.cache;
+
+import io.spring.infrastructure.mybatis.cache.BoundedTtlCache;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+public class AnonymousResponseCacheFilter extends OncePerRequestFilter {
+  private final ContentVersion contentVersion;
+  private final BoundedTtlCache responses;
+
+  public AnonymousResponseCacheFilter(ContentVersion contentVersion, int size, long ttlMillis) {
+    this.contentVersion = contentVersion;
+    this.responses = new BoundedTtlCache("anonymousResponse");
+    this.responses.setSize(size);
+    this.responses.setTtlMillis(ttlMillis);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !"GET".equals(request.getMethod())
+        || request.getHeader(HttpHeaders.AUTHORIZATION) != null;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String key = contentVersion.current() + ":" + cacheKey(request);
+    CachedResponse cached = (CachedResponse) responses.getObject(key);
+    if (cached != null) {
+      // parse If-None-Match exactly as checkNotModified does on the uncached path
+      if (cached.getETag() != null
+          && new ServletWebRequest(request, response).checkNotModified(cached.getETag())) {
+        return;
+      }
+      response.setStatus(HttpServletResponse.SC_OK);
+      response.setContentType(cached.getContentType());
+      response.setContentLength(cached.getBody().length);
+      response.getOutputStream().write(cached.getBody());
+      return;
+    }
+
+    ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+    filterChain.doFilter(request, wrapper);
+    if (wrapper.getStatus() == HttpServletResponse.SC_OK) {
+      responses.putObject(
+          key,
+          new CachedResponse(
+              wrapper.getContentType(),
+              wrapper.getHeader(HttpHeaders.ETAG),
+              wrapper.getContentAsByteArray()));
+    }
+    wrapper.copyBodyToResponse();
+  }
+
+  static String cacheKey(HttpServletRequest request) {
+    Map<String, String[]> sorted = new TreeMap<>(request.getParameterMap());
+    String query =
+        sorted.entrySet().stream()
+            .flatMap(
+                entry ->
+                    Arrays.stream(entry.getValue()).sorted().map(v -> entry.getKey() + "=" + v))
+            .collect(Collectors.joining("&"));
+    return request.getRequestURI() + "?" + query;
+  }
+
+  @Value
+  private static class CachedResponse implements Serializable {
+    private String contentType;
+    private String eTag;
+    private byte[] body;
+  }
+}
@@ -0,0 +1,32 @@
+package io.spring.api.cache;
+
+import io.spring.core.article.ArticleChangedEvent;
+import io.spring.core.comment.CommentChangedEvent;
+import io.spring.core.user.UserChangedEvent;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class ContentVersion {
+  private final AtomicLong version = new AtomicLong();
+
+  public long current() {
+    return version.get();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onArticleChanged(ArticleChangedEvent event) {
+    version.incrementAndGet();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCommentChanged(CommentChangedEvent event) {
+    version.incrementAndGet();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChangedEvent event) {
+    version.incrementAndGet();
+  }
+}
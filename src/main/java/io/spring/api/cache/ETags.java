@@ -0,0 +1,23 @@
+package io.spring.api.cache;
+
+import io.spring.application.data.ProfileData;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.springframework.util.DigestUtils;
+
+public class ETags {
+  public static String strong(Object... parts) {
+    String joined = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining("|"));
+    return "\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+  }
+
+  public static String profileVersion(ProfileData profileData) {
+    return String.join(
+        ",",
+        profileData.getUsername(),
+        String.valueOf(profileData.getBio()),
+        String.valueOf(profileData.getImage()),
+        String.valueOf(profileData.isFollowing()));
+  }
+}
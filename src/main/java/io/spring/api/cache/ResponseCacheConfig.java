@@ -0,0 +1,22 @@
+package io.spring.api.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ResponseCacheConfig {
+
+  @Bean
+  public FilterRegistrationBean<AnonymousResponseCacheFilter> anonymousResponseCacheFilter(
+      ContentVersion contentVersion,
+      @Value("${response-cache.size:512}") int size,
+      @Value("${response-cache.ttl-millis:30000}") long ttlMillis) {
+    FilterRegistrationBean<AnonymousResponseCacheFilter> registration =
+        new FilterRegistrationBean<>(
+            new AnonymousResponseCacheFilter(contentVersion, size, ttlMillis));
+    registration.addUrlPatterns("/articles", "/articles/*", "/tags");
+    return registration;
+  }
+}
@@ -0,0 +1,50 @@
+package io.spring.api.capture;
+
+import io.spring.infrastructure.traffic.TrafficLogWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.SecureRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "traffic-capture.enabled", havingValue = "true")
+public class TrafficCaptureConfig {
+
+  @Bean
+  public TrafficLogWriter trafficLogWriter(
+      @Value("${traffic-capture.file:traffic.jsonl}") String file,
+      @Value("${traffic-capture.queue-size:4096}") int queueSize)
+      throws IOException {
+    return new TrafficLogWriter(Paths.get(file), queueSize);
+  }
+
+  // ordered after Spring Security so the authenticated principal is already resolved
+  @Bean
+  public FilterRegistrationBean<TrafficCaptureFilter> trafficCaptureFilter(
+      TrafficLogWriter trafficLogWriter,
+      @Value("${dgs.graphql.path:/graphql}") String graphqlPath,
+      @Value("${traffic-capture.principal-salt:}") String principalSalt,
+      @Value("${traffic-capture.sample-percent:100}") int samplePercent) {
+    FilterRegistrationBean<TrafficCaptureFilter> registration =
+        new FilterRegistrationBean<>(
+            new TrafficCaptureFilter(
+                trafficLogWriter, graphqlPath, salt(principalSalt), samplePercent));
+    registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+    return registration;
+  }
+
+  private static byte[] salt(String configured) {
+    if (!configured.isEmpty()) {
+      return configured.getBytes(StandardCharsets.UTF_8);
+    }
+    byte[] salt = new byte[32];
+    new SecureRandom().nextBytes(salt);
+    return salt;
+  }
+}
@@ -0,0 +1,223 @@
+package io.spring.api.capture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.language.Argument;
+import graphql.language.AstPrinter;
+import graphql.language.AstTransformer;
+import graphql.language.Document;
+import graphql.language.Node;
+import graphql.language.NodeVisitorStub;
+import graphql.language.ObjectField;
+import graphql.language.StringValue;
+import graphql.parser.InvalidSyntaxException;
+import graphql.parser.Parser;
+import graphql.util.TraversalControl;
+import graphql.util.TraverserContext;
+import graphql.util.TreeTransformerUtil;
+import io.spring.core.user.User;
+import io.spring.infrastructure.traffic.CapturedRequest;
+import io.spring.infrastructure.traffic.TrafficLogWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+  static final String MASKED = "***";
+  private static final int MAX_BODY = 64 * 1024;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final TrafficLogWriter writer;
+  private final String graphqlPath;
+  private final SecretKeySpec principalKey;
+  private final int samplePercent;
+
+  public TrafficCaptureFilter(
+      TrafficLogWriter writer, String graphqlPath, byte[] principalSalt, int samplePercent) {
+    this.writer = writer;
+    this.graphqlPath = graphqlPath;
+    this.principalKey = new SecretKeySpec(principalSalt, "HmacSHA256");
+    this.samplePercent = samplePercent;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    if (path.startsWith("/actuator")
+        || (samplePercent < 100 && ThreadLocalRandom.current().nextInt(100) >= samplePercent)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    long timestamp = System.currentTimeMillis();
+    long start = System.nanoTime();
+    String principal = principal(SecurityContextHolder.getContext().getAuthentication());
+    ContentCachingRequestWrapper graphql =
+        graphqlPath.equals(path) && "POST".equals(request.getMethod())
+            ? new ContentCachingRequestWrapper(request, MAX_BODY)
+            : null;
+    try {
+      filterChain.doFilter(graphql != null ? graphql : request, response);
+    } finally {
+      Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      CapturedRequest captured = new CapturedRequest();
+      captured.setTimestamp(timestamp);
+      captured.setMethod(request.getMethod());
+      captured.setPath(path);
+      captured.setRoute(route == null ? null : route.toString());
+      captured.setQuery(sanitizeQuery(request.getQueryString()));
+      captured.setPrincipal(principal);
+      captured.setStatus(response.getStatus());
+      captured.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+      if (graphql != null) {
+        describeOperation(captured, graphql.getContentAsByteArray());
+      }
+      writer.append(captured);
+    }
+  }
+
+  // an HMAC keeps sessions distinguishable in a capture without revealing who they belong to
+  String principal(Authentication authentication) {
+    if (authentication == null || !(authentication.getPrincipal() instanceof User)) {
+      return null;
+    }
+    try {
+      Mac mac = Mac.getInstance("HmacSHA256");
+      mac.init(principalKey);
+      String userId = ((User) authentication.getPrincipal()).getId();
+      byte[] digest = mac.doFinal(userId.getBytes(StandardCharsets.UTF_8));
+      StringBuilder hex = new StringBuilder();
+      for (int i = 0; i < 8; i++) {
+        hex.append(String.format("%02x", digest[i]));
+      }
+      return hex.toString();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  static String sanitizeQuery(String query) {
+    if (query == null || query.isEmpty()) {
+      return null;
+    }
+    List<String> parameters = new ArrayList<>();
+    for (String parameter : query.split("&")) {
+      int separator = parameter.indexOf('=');
+      String name = separator < 0 ? parameter : parameter.substring(0, separator);
+      parameters.add(sensitive(name) ? name + "=" + MASKED : parameter);
+    }
+    return String.join("&", parameters);
+  }
+
+  private void describeOperation(CapturedRequest captured, byte[] body) {
+    JsonNode json;
+    try {
+      json = objectMapper.readTree(body);
+    } catch (IOException e) {
+      return;
+    }
+    if (json == null || !json.isObject()) {
+      return;
+    }
+    captured.setOperationName(json.path("operationName").asText(null));
+    captured.setDocument(sanitizeDocument(json.path("query").asText(null)));
+    captured.setPersistedQueryHash(
+        json.path("extensions").path("persistedQuery").path("sha256Hash").asText(null));
+    JsonNode variables = json.get("variables");
+    if (variables != null && variables.isObject()) {
+      captured.setVariables(sanitizeVariables(variables));
+    }
+  }
+
+  // inline literals get the same treatment as variables; a document that cannot be parsed is
+  // dropped rather than stored as is
+  static String sanitizeDocument(String document) {
+    if (document == null) {
+      return null;
+    }
+    Document parsed;
+    try {
+      parsed = new Parser().parseDocument(document);
+    } catch (InvalidSyntaxException e) {
+      return null;
+    }
+    Node<?> sanitized =
+        new AstTransformer()
+            .transform(
+                parsed,
+                new NodeVisitorStub() {
+                  @Override
+                  public TraversalControl visitStringValue(
+                      StringValue node, TraverserContext<Node> context) {
+                    for (Node<?> parent : context.getParentNodes()) {
+                      if (sensitive(argumentName(parent))) {
+                        return TreeTransformerUtil.changeNode(context, new StringValue(MASKED));
+                      }
+                    }
+                    return TraversalControl.CONTINUE;
+                  }
+                });
+    return AstPrinter.printAst(sanitized);
+  }
+
+  private static String argumentName(Node<?> node) {
+    if (node instanceof Argument) {
+      return ((Argument) node).getName();
+    }
+    if (node instanceof ObjectField) {
+      return ((ObjectField) node).getName();
+    }
+    return "";
+  }
+
+  private Map<String, Object> sanitizeVariables(JsonNode variables) {
+    Map<String, Object> sanitized = new LinkedHashMap<>();
+    Iterator<Map.Entry<String, JsonNode>> fields = variables.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      if (sensitive(field.getKey())) {
+        sanitized.put(field.getKey(), MASKED);
+      } else {
+        sanitized.put(field.getKey(), sanitizeValue(field.getValue()));
+      }
+    }
+    return sanitized;
+  }
+
+  private Object sanitizeValue(JsonNode value) {
+    if (value.isObject()) {
+      return sanitizeVariables(value);
+    }
+    if (value.isArray()) {
+      List<Object> sanitized = new ArrayList<>();
+      value.forEach(element -> sanitized.add(sanitizeValue(element)));
+      return sanitized;
+    }
+    return objectMapper.convertValue(value, Object.class);
+  }
+
+  private static boolean sensitive(String name) {
+    String lower = name.toLowerCase(Locale.ROOT);
+    return lower.contains("password") || lower.contains("email") || lower.contains("token");
+  }
+}
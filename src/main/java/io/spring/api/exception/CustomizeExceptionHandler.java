@@ -2,8 +2,10 @@ package io.spring.api.exception;
 
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
+import io.spring.infrastructure.repository.DuplicatedValueException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -47,6 +49,15 @@ public class CustomizeExceptionHandler extends ResponseEntityExceptionHandler {
     return handleExceptionInternal(e, error, headers, UNPROCESSABLE_ENTITY, request);
   }
 
+  @ExceptionHandler(DuplicatedValueException.class)
+  @ResponseStatus(UNPROCESSABLE_ENTITY)
+  @ResponseBody
+  public ErrorResource handleDuplicatedValue(DuplicatedValueException e, WebRequest request) {
+    return new ErrorResource(
+        Collections.singletonList(
+            new FieldErrorResource(null, e.getField(), "Duplicated", e.getReason())));
+  }
+
   @ExceptionHandler(InvalidAuthenticationException.class)
   public ResponseEntity<Object> handleInvalidAuthentication(
       InvalidAuthenticationException e, WebRequest request) {
@@ -1,16 +1,24 @@
 package io.spring.api.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.spring.api.timing.RequestTimings;
 import io.spring.core.service.JwtService;
 import io.spring.core.user.UserRepository;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,14 +27,26 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtTokenFilter extends OncePerRequestFilter {
   @Autowired private UserRepository userRepository;
   @Autowired private JwtService jwtService;
+
+  // keyed on user ids, since users pick and can change their own usernames
+  @Value("${admin.user-ids:}")
+  private String[] adminUserIds = new String[0];
+
   private final String header = "Authorization";
+  private final Timer verification;
+
+  public JwtTokenFilter(MeterRegistry meterRegistry) {
+    this.verification =
+        Timer.builder("jwt.verification").publishPercentileHistogram().register(meterRegistry);
+  }
 
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
+    long start = System.nanoTime();
     getTokenString(request.getHeader(header))
-        .flatMap(token -> jwtService.getSubFromToken(token))
+        .flatMap(token -> verification.record(() -> jwtService.getSubFromToken(token)))
         .ifPresent(
             id -> {
               if (SecurityContextHolder.getContext().getAuthentication() == null) {
@@ -36,18 +56,26 @@ public class JwtTokenFilter extends OncePerRequestFilter {
                         user -> {
                           UsernamePasswordAuthenticationToken authenticationToken =
                               new UsernamePasswordAuthenticationToken(
-                                  user, null, Collections.emptyList());
+                                  user, null, authorities(user.getId()));
                           authenticationToken.setDetails(
                               new WebAuthenticationDetailsSource().buildDetails(request));
                           SecurityContextHolder.getContext().setAuthentication(authenticationToken);
                         });
               }
             });
+    RequestTimings.recordAuth(System.nanoTime() - start);
 
     filterChain.doFilter(request, response);
   }
 
-  private Optional<String> getTokenString(String header) {
+  private List<GrantedAuthority> authorities(String userId) {
+    if (Arrays.asList(adminUserIds).contains(userId)) {
+      return Collections.singletonList(new SimpleGrantedAuthority(WebSecurityConfig.ADMIN));
+    }
+    return Collections.emptyList();
+  }
+
+  static Optional<String> getTokenString(String header) {
     if (header == null) {
       return Optional.empty();
     } else {
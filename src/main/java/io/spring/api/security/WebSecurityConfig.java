@@ -2,6 +2,10 @@ package io.spring.api.security;
 
 import static java.util.Arrays.asList;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,10 +25,14 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @Configuration
 @EnableWebSecurity
 public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
+  public static final String ADMIN = "ADMIN";
 
+  @Autowired private ObjectProvider<MeterRegistry> meterRegistry;
+
+  // web test slices have no registry, so verification timings go to a throwaway one there
   @Bean
   public JwtTokenFilter jwtTokenFilter() {
-    return new JwtTokenFilter();
+    return new JwtTokenFilter(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
   }
 
   @Bean
@@ -58,6 +66,14 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
         .permitAll()
         .antMatchers(HttpMethod.GET, "/articles/**", "/profiles/**", "/tags")
         .permitAll()
+        .antMatchers(HttpMethod.GET, "/actuator/health")
+        .permitAll()
+        .antMatchers(
+            "/actuator/prometheus",
+            "/actuator/metrics/**",
+            "/actuator/jfr/**",
+            "/actuator/slowqueries/**")
+        .hasAuthority(ADMIN)
         .anyRequest()
         .authenticated();
 
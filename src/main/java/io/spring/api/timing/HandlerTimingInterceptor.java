@@ -0,0 +1,25 @@
+package io.spring.api.timing;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class HandlerTimingInterceptor implements HandlerInterceptor {
+  private static final String START = HandlerTimingInterceptor.class.getName() + ".start";
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    request.setAttribute(START, System.nanoTime());
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    Object start = request.getAttribute(START);
+    if (start != null) {
+      RequestTimings.recordHandler(System.nanoTime() - (Long) start);
+    }
+  }
+}
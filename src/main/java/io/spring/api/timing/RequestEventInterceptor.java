@@ -0,0 +1,49 @@
+package io.spring.api.timing;
+
+import io.spring.infrastructure.diagnostics.RequestEvent;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class RequestEventInterceptor implements HandlerInterceptor {
+  private static final String EVENT = RequestEventInterceptor.class.getName() + ".event";
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    RequestEvent event = new RequestEvent();
+    if (event.isEnabled()) {
+      event.begin();
+      request.setAttribute(EVENT, event);
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    Object attribute = request.getAttribute(EVENT);
+    if (!(attribute instanceof RequestEvent)) {
+      return;
+    }
+    RequestEvent event = (RequestEvent) attribute;
+    event.end();
+    if (event.shouldCommit()) {
+      Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      event.setMethod(request.getMethod());
+      event.setRoute(route == null ? "unmatched" : route.toString());
+      event.setStatus(response.getStatus());
+      event.setUserPresent(userPresent());
+      event.commit();
+    }
+  }
+
+  private static boolean userPresent() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication != null && !(authentication instanceof AnonymousAuthenticationToken);
+  }
+}
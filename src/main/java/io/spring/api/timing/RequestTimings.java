@@ -0,0 +1,96 @@
+package io.spring.api.timing;
+
+import java.util.Locale;
+import java.util.Optional;
+
+public class RequestTimings {
+  private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+  private final long startNanos = System.nanoTime();
+  private long authNanos;
+  private long sqlNanos;
+  private int statements;
+  private long handlerNanos;
+  private long serializationNanos;
+
+  public static RequestTimings start() {
+    RequestTimings timings = new RequestTimings();
+    CURRENT.set(timings);
+    return timings;
+  }
+
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  public static Optional<RequestTimings> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  public static void recordAuth(long nanos) {
+    RequestTimings timings = CURRENT.get();
+    if (timings != null) {
+      timings.authNanos += nanos;
+    }
+  }
+
+  public static void recordStatement(long nanos) {
+    RequestTimings timings = CURRENT.get();
+    if (timings != null) {
+      timings.sqlNanos += nanos;
+      timings.statements++;
+    }
+  }
+
+  public static void recordHandler(long nanos) {
+    RequestTimings timings = CURRENT.get();
+    if (timings != null) {
+      timings.handlerNanos += nanos;
+    }
+  }
+
+  public static void recordSerialization(long nanos) {
+    RequestTimings timings = CURRENT.get();
+    if (timings != null) {
+      timings.serializationNanos += nanos;
+    }
+  }
+
+  public long getElapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  public int getStatements() {
+    return statements;
+  }
+
+  public String toServerTiming() {
+    return String.join(
+        ", ",
+        "auth;dur=" + millis(authNanos),
+        "sql;dur=" + millis(sqlNanos) + ";desc=\"" + statements + " statements\"",
+        "service;dur=" + millis(serviceNanos()),
+        "ser;dur=" + millis(serializationNanos),
+        "total;dur=" + millis(getElapsedNanos()));
+  }
+
+  public String toLogFields() {
+    return String.join(
+        " ",
+        "total_ms=" + millis(getElapsedNanos()),
+        "auth_ms=" + millis(authNanos),
+        "sql_ms=" + millis(sqlNanos),
+        "statements=" + statements,
+        "service_ms=" + millis(serviceNanos()),
+        "ser_ms=" + millis(serializationNanos));
+  }
+
+  // message converters write inside the handler, so serialization is carved out of it
+  private long serviceNanos() {
+    return Math.max(0, handlerNanos - serializationNanos);
+  }
+
+  private static String millis(long nanos) {
+    return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+  }
+}
@@ -0,0 +1,38 @@
+package io.spring.api.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+  @Bean
+  public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+      @Value("${server-timing.header-enabled:false}") boolean headerEnabled,
+      @Value("${server-timing.debug-token:}") String debugToken,
+      @Value("${server-timing.slow-threshold-millis:500}") long slowThresholdMillis) {
+    FilterRegistrationBean<ServerTimingFilter> registration =
+        new FilterRegistrationBean<>(
+            new ServerTimingFilter(headerEnabled, debugToken, slowThresholdMillis));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  @Bean
+  public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(
+      ObjectMapper objectMapper) {
+    return new TimedJacksonHttpMessageConverter(objectMapper);
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new HandlerTimingInterceptor());
+    registry.addInterceptor(new RequestEventInterceptor());
+  }
+}
@@ -0,0 +1,135 @@
+package io.spring.api.timing;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+  static final String SERVER_TIMING = "Server-Timing";
+  static final String DEBUG_TOKEN = "X-Debug-Token";
+
+  private final boolean headerEnabled;
+  private final byte[] debugToken;
+  private final long slowThresholdNanos;
+
+  public ServerTimingFilter(boolean headerEnabled, String debugToken, long slowThresholdMillis) {
+    if (headerEnabled && debugToken.isEmpty()) {
+      log.warn("server-timing.header-enabled has no effect without server-timing.debug-token");
+    }
+    this.headerEnabled = headerEnabled;
+    this.debugToken = debugToken.isEmpty() ? null : debugToken.getBytes(StandardCharsets.UTF_8);
+    this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RequestTimings timings = RequestTimings.start();
+    try {
+      if (emitHeader(request)) {
+        JsonCachingResponseWrapper wrapper = new JsonCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        if (!wrapper.isStreaming()) {
+          wrapper.setHeader(SERVER_TIMING, timings.toServerTiming());
+        }
+        wrapper.copyBodyToResponse();
+      } else {
+        filterChain.doFilter(request, response);
+      }
+    } finally {
+      RequestTimings.clear();
+      if (timings.getElapsedNanos() >= slowThresholdNanos) {
+        log.warn(
+            "slow request method={} path={} status={} {}",
+            request.getMethod(),
+            request.getRequestURI(),
+            response.getStatus(),
+            timings.toLogFields());
+      }
+    }
+  }
+
+  private boolean emitHeader(HttpServletRequest request) {
+    if (!headerEnabled || debugToken == null) {
+      return false;
+    }
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    if (path.startsWith("/actuator")) {
+      return false;
+    }
+    String presented = request.getHeader(DEBUG_TOKEN);
+    return presented != null
+        && MessageDigest.isEqual(debugToken, presented.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // only JSON bodies are held back so the header can follow serialization; anything else, such
+  // as file downloads, streams straight through and goes without the header
+  static class JsonCachingResponseWrapper extends ContentCachingResponseWrapper {
+    private Boolean caching;
+
+    JsonCachingResponseWrapper(HttpServletResponse response) {
+      super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      return caching() ? super.getOutputStream() : getResponse().getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      return caching() ? super.getWriter() : getResponse().getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      if (Boolean.FALSE.equals(caching)) {
+        getResponse().flushBuffer();
+      } else {
+        super.flushBuffer();
+      }
+    }
+
+    @Override
+    public void setContentLength(int len) {
+      if (Boolean.FALSE.equals(caching)) {
+        getResponse().setContentLength(len);
+      } else {
+        super.setContentLength(len);
+      }
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+      if (Boolean.FALSE.equals(caching)) {
+        getResponse().setContentLengthLong(len);
+      } else {
+        super.setContentLengthLong(len);
+      }
+    }
+
+    boolean isStreaming() {
+      return Boolean.FALSE.equals(caching);
+    }
+
+    private boolean caching() {
+      if (caching == null) {
+        String contentType = getContentType();
+        caching = contentType != null && contentType.contains("json");
+      }
+      return caching;
+    }
+  }
+}
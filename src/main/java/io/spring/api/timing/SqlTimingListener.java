@@ -0,0 +1,14 @@
+package io.spring.api.timing;
+
+import io.spring.infrastructure.mybatis.SqlStatementExecution;
+import io.spring.infrastructure.mybatis.SqlStatementListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlTimingListener implements SqlStatementListener {
+
+  @Override
+  public void onStatement(SqlStatementExecution execution) {
+    RequestTimings.recordStatement(execution.getElapsedNanos());
+  }
+}
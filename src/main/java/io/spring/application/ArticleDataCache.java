@@ -0,0 +1,143 @@
+package io.spring.application;
+
+import static java.util.stream.Collectors.toList;
+
+import io.spring.application.data.ArticleData;
+import io.spring.application.data.ArticleFavoriteCount;
+import io.spring.core.article.ArticleChangedEvent;
+import io.spring.core.user.UserChangedEvent;
+import io.spring.infrastructure.mybatis.InLists;
+import io.spring.infrastructure.mybatis.cache.BoundedTtlCache;
+import io.spring.infrastructure.mybatis.readservice.ArticleFavoritesReadService;
+import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class ArticleDataCache {
+  private final ArticleReadService articleReadService;
+  private final ArticleFavoritesReadService articleFavoritesReadService;
+  private final StaleWhileRevalidateCache<String, ArticleData> articles;
+  private final SingleFlight<String, ArticleData> slugLoads;
+  private final BoundedTtlCache slugs;
+
+  public ArticleDataCache(
+      ArticleReadService articleReadService,
+      ArticleFavoritesReadService articleFavoritesReadService,
+      @Value("${article.cache.size:1024}") int size,
+      @Value("${article.cache.soft-ttl-millis:30000}") long softTtlMillis,
+      @Value("${article.cache.hard-ttl-millis:600000}") long hardTtlMillis,
+      @Value("${article.cache.refresh-deadline-millis:2000}") long refreshDeadlineMillis) {
+    this.articleReadService = articleReadService;
+    this.articleFavoritesReadService = articleFavoritesReadService;
+    this.articles =
+        new StaleWhileRevalidateCache<>(
+            "articleData", size, softTtlMillis, hardTtlMillis, refreshDeadlineMillis);
+    this.slugLoads = new SingleFlight<>(refreshDeadlineMillis);
+    this.slugs = new BoundedTtlCache("articleSlug");
+    this.slugs.setSize(size);
+    this.slugs.setTtlMillis(hardTtlMillis);
+  }
+
+  public void setClock(LongSupplier clock) {
+    articles.setClock(clock);
+    slugs.setClock(clock);
+  }
+
+  public Optional<ArticleData> findById(String id) {
+    return Optional.ofNullable(articles.get(id, this::loadById));
+  }
+
+  public Optional<ArticleData> findBySlug(String slug) {
+    String id = (String) slugs.getObject(slug);
+    if (id != null) {
+      ArticleData cached = articles.getIfPresent(id, this::loadById);
+      if (cached != null && slug.equals(cached.getSlug())) {
+        return Optional.of(cached);
+      }
+    }
+    long generation = articles.generation();
+    ArticleData loaded = slugLoads.load(slug, () -> loadBySlug(slug));
+    if (loaded == null) {
+      return Optional.empty();
+    }
+    articles.put(loaded.getId(), loaded, generation);
+    slugs.putObject(slug, loaded.getId());
+    return Optional.of((ArticleData) BoundedTtlCache.copy(loaded));
+  }
+
+  public List<ArticleData> findAll(List<String> articleIds) {
+    Map<String, ArticleData> found = new HashMap<>();
+    List<String> missing = new ArrayList<>();
+    articleIds.forEach(
+        id -> {
+          ArticleData cached = articles.getIfPresent(id, this::loadById);
+          if (cached != null) {
+            found.put(id, cached);
+          } else {
+            missing.add(id);
+          }
+        });
+    if (!missing.isEmpty()) {
+      long generation = articles.generation();
+      List<ArticleData> loaded =
+          InLists.chunked(
+              missing, ids -> articleReadService.findArticles(ids, ArticleProjection.FULL));
+      setFavoriteCount(loaded);
+      loaded.forEach(
+          articleData -> {
+            articles.put(articleData.getId(), articleData, generation);
+            found.put(articleData.getId(), articleData);
+          });
+    }
+    return articleIds.stream().map(found::get).filter(Objects::nonNull).collect(toList());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onArticleChanged(ArticleChangedEvent event) {
+    articles.evict(event.getArticleId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChangedEvent event) {
+    articles.clear();
+  }
+
+  private ArticleData loadById(String id) {
+    return withFavoritesCount(articleReadService.findById(id, ArticleProjection.FULL));
+  }
+
+  private ArticleData loadBySlug(String slug) {
+    return withFavoritesCount(articleReadService.findBySlug(slug, ArticleProjection.FULL));
+  }
+
+  private ArticleData withFavoritesCount(ArticleData articleData) {
+    if (articleData != null) {
+      articleData.setFavoritesCount(
+          articleFavoritesReadService.articleFavoriteCount(articleData.getId()));
+    }
+    return articleData;
+  }
+
+  private void setFavoriteCount(List<ArticleData> articles) {
+    if (articles.isEmpty()) {
+      return;
+    }
+    Map<String, Integer> countMap = new HashMap<>();
+    List<ArticleFavoriteCount> favoritesCounts =
+        InLists.chunked(
+            articles.stream().map(ArticleData::getId).collect(toList()),
+            articleFavoritesReadService::articlesFavoriteCount);
+    favoritesCounts.forEach(item -> countMap.put(item.getId(), item.getCount()));
+    articles.forEach(
+        articleData -> articleData.setFavoritesCount(countMap.get(articleData.getId())));
+  }
+}
@@ -0,0 +1,17 @@
+package io.spring.application;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ArticleProjection {
+  public static final ArticleProjection FULL = ArticleProjection.builder().build();
+  public static final ArticleProjection SUMMARY = ArticleProjection.builder().body(false).build();
+
+  @Builder.Default boolean body = true;
+  @Builder.Default boolean tags = true;
+  @Builder.Default boolean favoritesCount = true;
+  @Builder.Default boolean favorited = true;
+  @Builder.Default boolean following = true;
+}
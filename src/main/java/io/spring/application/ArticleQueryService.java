@@ -6,12 +6,14 @@ import io.spring.application.data.ArticleData;
 import io.spring.application.data.ArticleDataList;
 import io.spring.application.data.ArticleFavoriteCount;
 import io.spring.core.user.User;
+import io.spring.infrastructure.mybatis.InLists;
 import io.spring.infrastructure.mybatis.readservice.ArticleFavoritesReadService;
 import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
 import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -26,26 +28,41 @@ public class ArticleQueryService {
   private ArticleReadService articleReadService;
   private UserRelationshipQueryService userRelationshipQueryService;
   private ArticleFavoritesReadService articleFavoritesReadService;
+  private ArticleDataCache articleDataCache;
 
   public Optional<ArticleData> findById(String id, User user) {
-    ArticleData articleData = articleReadService.findById(id);
+    return findById(id, user, ArticleProjection.FULL);
+  }
+
+  public Optional<ArticleData> findById(String id, User user, ArticleProjection projection) {
+    if (ArticleProjection.FULL.equals(projection)) {
+      return articleDataCache.findById(id).map(articleData -> overlayViewer(articleData, user));
+    }
+    ArticleData articleData = articleReadService.findById(id, projection);
     if (articleData == null) {
       return Optional.empty();
     } else {
       if (user != null) {
-        fillExtraInfo(id, user, articleData);
+        fillExtraInfo(id, user, articleData, projection);
       }
       return Optional.of(articleData);
     }
   }
 
   public Optional<ArticleData> findBySlug(String slug, User user) {
-    ArticleData articleData = articleReadService.findBySlug(slug);
+    return findBySlug(slug, user, ArticleProjection.FULL);
+  }
+
+  public Optional<ArticleData> findBySlug(String slug, User user, ArticleProjection projection) {
+    if (ArticleProjection.FULL.equals(projection)) {
+      return articleDataCache.findBySlug(slug).map(articleData -> overlayViewer(articleData, user));
+    }
+    ArticleData articleData = articleReadService.findBySlug(slug, projection);
     if (articleData == null) {
       return Optional.empty();
     } else {
       if (user != null) {
-        fillExtraInfo(articleData.getId(), user, articleData);
+        fillExtraInfo(articleData.getId(), user, articleData, projection);
       }
       return Optional.of(articleData);
     }
@@ -57,6 +74,17 @@ public class ArticleQueryService {
       String favoritedBy,
       CursorPageParameter<DateTime> page,
       User currentUser) {
+    return findRecentArticlesWithCursor(
+        tag, author, favoritedBy, page, currentUser, ArticleProjection.FULL);
+  }
+
+  public CursorPager<ArticleData> findRecentArticlesWithCursor(
+      String tag,
+      String author,
+      String favoritedBy,
+      CursorPageParameter<DateTime> page,
+      User currentUser,
+      ArticleProjection projection) {
     List<String> articleIds =
         articleReadService.findArticlesWithCursor(tag, author, favoritedBy, page);
     if (articleIds.size() == 0) {
@@ -70,8 +98,8 @@ public class ArticleQueryService {
         Collections.reverse(articleIds);
       }
 
-      List<ArticleData> articles = articleReadService.findArticles(articleIds);
-      fillExtraInfo(articles, currentUser);
+      List<ArticleData> articles = findArticles(articleIds, projection);
+      fillViewerInfo(articles, currentUser, projection);
 
       return new CursorPager<>(articles, page.getDirection(), hasExtra);
     }
@@ -79,12 +107,19 @@ public class ArticleQueryService {
 
   public CursorPager<ArticleData> findUserFeedWithCursor(
       User user, CursorPageParameter<DateTime> page) {
+    return findUserFeedWithCursor(user, page, ArticleProjection.FULL);
+  }
+
+  public CursorPager<ArticleData> findUserFeedWithCursor(
+      User user, CursorPageParameter<DateTime> page, ArticleProjection projection) {
     List<String> followdUsers = userRelationshipQueryService.followedUsers(user.getId());
     if (followdUsers.size() == 0) {
       return new CursorPager<>(new ArrayList<>(), page.getDirection(), false);
     } else {
       List<ArticleData> articles =
-          articleReadService.findArticlesOfAuthorsWithCursor(followdUsers, page);
+          joinFollows(followdUsers)
+              ? articleReadService.findArticlesOfFollowedWithCursor(user.getId(), page, projection)
+              : articleReadService.findArticlesOfAuthorsWithCursor(followdUsers, page, projection);
       boolean hasExtra = articles.size() > page.getLimit();
       if (hasExtra) {
         articles.remove(page.getLimit());
@@ -92,51 +127,114 @@ public class ArticleQueryService {
       if (!page.isNext()) {
         Collections.reverse(articles);
       }
-      fillExtraInfo(articles, user);
+      fillExtraInfo(articles, user, projection);
       return new CursorPager<>(articles, page.getDirection(), hasExtra);
     }
   }
 
   public ArticleDataList findRecentArticles(
       String tag, String author, String favoritedBy, Page page, User currentUser) {
+    return findRecentArticles(tag, author, favoritedBy, page, currentUser, ArticleProjection.FULL);
+  }
+
+  public ArticleDataList findRecentArticles(
+      String tag,
+      String author,
+      String favoritedBy,
+      Page page,
+      User currentUser,
+      ArticleProjection projection) {
     List<String> articleIds = articleReadService.queryArticles(tag, author, favoritedBy, page);
     int articleCount = articleReadService.countArticle(tag, author, favoritedBy);
     if (articleIds.size() == 0) {
       return new ArticleDataList(new ArrayList<>(), articleCount);
     } else {
-      List<ArticleData> articles = articleReadService.findArticles(articleIds);
-      fillExtraInfo(articles, currentUser);
+      List<ArticleData> articles = findArticles(articleIds, projection);
+      fillViewerInfo(articles, currentUser, projection);
       return new ArticleDataList(articles, articleCount);
     }
   }
 
   public ArticleDataList findUserFeed(User user, Page page) {
+    return findUserFeed(user, page, ArticleProjection.FULL);
+  }
+
+  public ArticleDataList findUserFeed(User user, Page page, ArticleProjection projection) {
     List<String> followdUsers = userRelationshipQueryService.followedUsers(user.getId());
     if (followdUsers.size() == 0) {
       return new ArticleDataList(new ArrayList<>(), 0);
     } else {
-      List<ArticleData> articles = articleReadService.findArticlesOfAuthors(followdUsers, page);
-      fillExtraInfo(articles, user);
+      if (joinFollows(followdUsers)) {
+        List<ArticleData> articles =
+            articleReadService.findArticlesOfFollowed(user.getId(), page, projection);
+        fillExtraInfo(articles, user, projection);
+        return new ArticleDataList(
+            articles, articleReadService.countFollowedFeedSize(user.getId()));
+      }
+      List<ArticleData> articles =
+          articleReadService.findArticlesOfAuthors(followdUsers, page, projection);
+      fillExtraInfo(articles, user, projection);
       int count = articleReadService.countFeedSize(followdUsers);
       return new ArticleDataList(articles, count);
     }
   }
 
-  private void fillExtraInfo(List<ArticleData> articles, User currentUser) {
-    setFavoriteCount(articles);
-    if (currentUser != null) {
-      setIsFavorite(articles, currentUser);
-      setIsFollowingAuthor(articles, currentUser);
+  private boolean joinFollows(List<String> followdUsers) {
+    return followdUsers.size() > InLists.MAX_CHUNK;
+  }
+
+  private List<ArticleData> findArticles(List<String> articleIds, ArticleProjection projection) {
+    if (!ArticleProjection.FULL.equals(projection)) {
+      List<ArticleData> articles = articleReadService.findArticles(articleIds, projection);
+      if (projection.isFavoritesCount()) {
+        setFavoriteCount(articles);
+      }
+      return articles;
+    }
+    return articleDataCache.findAll(articleIds);
+  }
+
+  private ArticleData overlayViewer(ArticleData articleData, User user) {
+    if (user != null) {
+      articleData.setFavorited(
+          articleFavoritesReadService.isUserFavorite(user.getId(), articleData.getId()));
+      articleData
+          .getProfileData()
+          .setFollowing(
+              userRelationshipQueryService.isUserFollowing(
+                  user.getId(), articleData.getProfileData().getId()));
+    }
+    return articleData;
+  }
+
+  private void fillExtraInfo(
+      List<ArticleData> articles, User currentUser, ArticleProjection projection) {
+    if (projection.isFavoritesCount()) {
+      setFavoriteCount(articles);
+    }
+    fillViewerInfo(articles, currentUser, projection);
+  }
+
+  private void fillViewerInfo(
+      List<ArticleData> articles, User currentUser, ArticleProjection projection) {
+    if (currentUser != null && !articles.isEmpty()) {
+      if (projection.isFavorited()) {
+        setIsFavorite(articles, currentUser);
+      }
+      if (projection.isFollowing()) {
+        setIsFollowingAuthor(articles, currentUser);
+      }
     }
   }
 
   private void setIsFollowingAuthor(List<ArticleData> articles, User currentUser) {
     Set<String> followingAuthors =
-        userRelationshipQueryService.followingAuthors(
-            currentUser.getId(),
-            articles.stream()
-                .map(articleData1 -> articleData1.getProfileData().getId())
-                .collect(toList()));
+        new HashSet<>(
+            InLists.chunked(
+                articles.stream()
+                    .map(articleData1 -> articleData1.getProfileData().getId())
+                    .collect(toList()),
+                ids -> userRelationshipQueryService.followingAuthors(currentUser.getId(), ids)));
     articles.forEach(
         articleData -> {
           if (followingAuthors.contains(articleData.getProfileData().getId())) {
@@ -147,8 +245,9 @@ public class ArticleQueryService {
 
   private void setFavoriteCount(List<ArticleData> articles) {
     List<ArticleFavoriteCount> favoritesCounts =
-        articleFavoritesReadService.articlesFavoriteCount(
-            articles.stream().map(ArticleData::getId).collect(toList()));
+        InLists.chunked(
+            articles.stream().map(ArticleData::getId).collect(toList()),
+            articleFavoritesReadService::articlesFavoriteCount);
     Map<String, Integer> countMap = new HashMap<>();
     favoritesCounts.forEach(
         item -> {
@@ -160,9 +259,10 @@ public class ArticleQueryService {
 
   private void setIsFavorite(List<ArticleData> articles, User currentUser) {
     Set<String> favoritedArticles =
-        articleFavoritesReadService.userFavorites(
-            articles.stream().map(articleData -> articleData.getId()).collect(toList()),
-            currentUser);
+        new HashSet<>(
+            InLists.chunked(
+                articles.stream().map(articleData -> articleData.getId()).collect(toList()),
+                ids -> articleFavoritesReadService.userFavorites(ids, currentUser)));
 
     articles.forEach(
         articleData -> {
@@ -172,13 +272,20 @@ public class ArticleQueryService {
         });
   }
 
-  private void fillExtraInfo(String id, User user, ArticleData articleData) {
-    articleData.setFavorited(articleFavoritesReadService.isUserFavorite(user.getId(), id));
-    articleData.setFavoritesCount(articleFavoritesReadService.articleFavoriteCount(id));
-    articleData
-        .getProfileData()
-        .setFollowing(
-            userRelationshipQueryService.isUserFollowing(
-                user.getId(), articleData.getProfileData().getId()));
+  private void fillExtraInfo(
+      String id, User user, ArticleData articleData, ArticleProjection projection) {
+    if (projection.isFavorited()) {
+      articleData.setFavorited(articleFavoritesReadService.isUserFavorite(user.getId(), id));
+    }
+    if (projection.isFavoritesCount()) {
+      articleData.setFavoritesCount(articleFavoritesReadService.articleFavoriteCount(id));
+    }
+    if (projection.isFollowing()) {
+      articleData
+          .getProfileData()
+          .setFollowing(
+              userRelationshipQueryService.isUserFollowing(
+                  user.getId(), articleData.getProfileData().getId()));
+    }
   }
 }
@@ -2,11 +2,15 @@ package io.spring.application;
 
 import io.spring.application.data.CommentData;
 import io.spring.core.user.User;
+import io.spring.infrastructure.mybatis.InLists;
 import io.spring.infrastructure.mybatis.readservice.CommentReadService;
 import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -37,18 +41,7 @@ public class CommentQueryService {
   public List<CommentData> findByArticleId(String articleId, User user) {
     List<CommentData> comments = commentReadService.findByArticleId(articleId);
     if (comments.size() > 0 && user != null) {
-      Set<String> followingAuthors =
-          userRelationshipQueryService.followingAuthors(
-              user.getId(),
-              comments.stream()
-                  .map(commentData -> commentData.getProfileData().getId())
-                  .collect(Collectors.toList()));
-      comments.forEach(
-          commentData -> {
-            if (followingAuthors.contains(commentData.getProfileData().getId())) {
-              commentData.getProfileData().setFollowing(true);
-            }
-          });
+      setIsFollowingAuthor(comments, user);
     }
     return comments;
   }
@@ -60,19 +53,34 @@ public class CommentQueryService {
       return new CursorPager<>(new ArrayList<>(), page.getDirection(), false);
     }
     if (user != null) {
-      Set<String> followingAuthors =
-          userRelationshipQueryService.followingAuthors(
-              user.getId(),
-              comments.stream()
-                  .map(commentData -> commentData.getProfileData().getId())
-                  .collect(Collectors.toList()));
+      setIsFollowingAuthor(comments, user);
+    }
+    return toCursorPager(comments, page);
+  }
+
+  public Map<String, CursorPager<CommentData>> findByArticleIdsWithCursor(
+      List<String> articleIds, User user, CursorPageParameter<DateTime> page) {
+    Map<String, List<CommentData>> commentsByArticle = new HashMap<>();
+    articleIds.forEach(articleId -> commentsByArticle.put(articleId, new ArrayList<>()));
+    if (!articleIds.isEmpty()) {
+      List<CommentData> comments = commentReadService.findByArticleIdsWithCursor(articleIds, page);
+      if (!comments.isEmpty() && user != null) {
+        setIsFollowingAuthor(comments, user);
+      }
       comments.forEach(
-          commentData -> {
-            if (followingAuthors.contains(commentData.getProfileData().getId())) {
-              commentData.getProfileData().setFollowing(true);
-            }
-          });
+          commentData ->
+              commentsByArticle
+                  .computeIfAbsent(commentData.getArticleId(), key -> new ArrayList<>())
+                  .add(commentData));
     }
+    Map<String, CursorPager<CommentData>> result = new HashMap<>();
+    commentsByArticle.forEach(
+        (articleId, comments) -> result.put(articleId, toCursorPager(comments, page)));
+    return result;
+  }
+
+  private CursorPager<CommentData> toCursorPager(
+      List<CommentData> comments, CursorPageParameter<DateTime> page) {
     boolean hasExtra = comments.size() > page.getLimit();
     if (hasExtra) {
       comments.remove(page.getLimit());
@@ -82,4 +90,20 @@ public class CommentQueryService {
     }
     return new CursorPager<>(comments, page.getDirection(), hasExtra);
   }
+
+  private void setIsFollowingAuthor(List<CommentData> comments, User user) {
+    Set<String> followingAuthors =
+        new HashSet<>(
+            InLists.chunked(
+                comments.stream()
+                    .map(commentData -> commentData.getProfileData().getId())
+                    .collect(Collectors.toList()),
+                ids -> userRelationshipQueryService.followingAuthors(user.getId(), ids)));
+    comments.forEach(
+        commentData -> {
+          if (followingAuthors.contains(commentData.getProfileData().getId())) {
+            commentData.getProfileData().setFollowing(true);
+          }
+        });
+  }
 }
@@ -3,20 +3,36 @@ package io.spring.application;
 import io.spring.application.data.ProfileData;
 import io.spring.application.data.UserData;
 import io.spring.core.user.User;
+import io.spring.core.user.UserChangedEvent;
 import io.spring.infrastructure.mybatis.readservice.UserReadService;
 import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
 import java.util.Optional;
-import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
-@AllArgsConstructor
 public class ProfileQueryService {
-  private UserReadService userReadService;
-  private UserRelationshipQueryService userRelationshipQueryService;
+  private final StaleWhileRevalidateCache<String, UserData> users;
+  private final UserReadService userReadService;
+  private final UserRelationshipQueryService userRelationshipQueryService;
+
+  public ProfileQueryService(
+      UserReadService userReadService,
+      UserRelationshipQueryService userRelationshipQueryService,
+      @Value("${profile.cache.size:4096}") int size,
+      @Value("${profile.cache.soft-ttl-millis:30000}") long softTtlMillis,
+      @Value("${profile.cache.hard-ttl-millis:600000}") long hardTtlMillis,
+      @Value("${profile.cache.refresh-deadline-millis:2000}") long refreshDeadlineMillis) {
+    this.userReadService = userReadService;
+    this.userRelationshipQueryService = userRelationshipQueryService;
+    this.users =
+        new StaleWhileRevalidateCache<>(
+            "profileUser", size, softTtlMillis, hardTtlMillis, refreshDeadlineMillis);
+  }
 
   public Optional<ProfileData> findByUsername(String username, User currentUser) {
-    UserData userData = userReadService.findByUsername(username);
+    UserData userData = users.get(username, userReadService::findByUsername);
     if (userData == null) {
       return Optional.empty();
     } else {
@@ -32,4 +48,9 @@ public class ProfileQueryService {
       return Optional.of(profileData);
     }
   }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChangedEvent event) {
+    users.clear();
+  }
 }
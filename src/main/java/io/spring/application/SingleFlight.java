@@ -0,0 +1,63 @@
+package io.spring.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class SingleFlight<K, V> {
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final long timeoutMillis;
+
+  public SingleFlight(long timeoutMillis) {
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  public V load(K key, Supplier<V> loader) {
+    CompletableFuture<V> created = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+    if (existing == null) {
+      try {
+        V value = loader.get();
+        created.complete(value);
+        return value;
+      } catch (RuntimeException | Error e) {
+        created.completeExceptionally(e);
+        throw e;
+      } finally {
+        inFlight.remove(key, created);
+      }
+    }
+
+    waiting.incrementAndGet();
+    try {
+      return existing.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      // the shared load is stuck, stop waiting for it and load on our own
+      return loader.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } finally {
+      waiting.decrementAndGet();
+    }
+  }
+
+  // callers blocked on another caller's load
+  public int getWaiting() {
+    return waiting.get();
+  }
+}
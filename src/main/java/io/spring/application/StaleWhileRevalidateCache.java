@@ -0,0 +1,238 @@
+package io.spring.application;
+
+import io.spring.infrastructure.mybatis.cache.BoundedTtlCache;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.AllArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class StaleWhileRevalidateCache<K, V> {
+  private static final Map<String, StaleWhileRevalidateCache<?, ?>> INSTANCES =
+      new ConcurrentHashMap<>();
+  private static final int REFRESH_QUEUE = 64;
+  // a full queue means refreshes are falling behind; callers keep the stale entry instead
+  private static final ThreadPoolExecutor REFRESHER =
+      new ThreadPoolExecutor(
+          2,
+          2,
+          0,
+          TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(REFRESH_QUEUE),
+          runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+          },
+          new ThreadPoolExecutor.AbortPolicy());
+
+  private final String name;
+  private final BoundedTtlCache store;
+  private final long softTtlMillis;
+  private final long refreshDeadlineMillis;
+  private final SingleFlight<K, V> loads;
+  private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicLong staleServed = new AtomicLong();
+  private final AtomicLong refreshFailures = new AtomicLong();
+  private final AtomicLong refreshesDropped = new AtomicLong();
+  private final Object writeLock = new Object();
+  private LongSupplier clock = System::currentTimeMillis;
+
+  public StaleWhileRevalidateCache(
+      String name, int size, long softTtlMillis, long hardTtlMillis, long refreshDeadlineMillis) {
+    this.name = name;
+    this.store = new BoundedTtlCache(name);
+    this.store.setSize(size);
+    this.store.setTtlMillis(hardTtlMillis);
+    this.softTtlMillis = softTtlMillis;
+    this.refreshDeadlineMillis = refreshDeadlineMillis;
+    this.loads = new SingleFlight<>(refreshDeadlineMillis);
+    INSTANCES.put(name, this);
+  }
+
+  public static Collection<StaleWhileRevalidateCache<?, ?>> instances() {
+    return Collections.unmodifiableCollection(INSTANCES.values());
+  }
+
+  public V get(K key, Function<K, V> loader) {
+    V cached = getIfPresent(key, loader);
+    return cached != null ? cached : load(key, loader);
+  }
+
+  @SuppressWarnings("unchecked")
+  public V getIfPresent(K key, Function<K, V> loader) {
+    Entry<V> entry = (Entry<V>) store.getObject(key);
+    if (entry == null) {
+      return null;
+    }
+    if (clock.getAsLong() - entry.loadedAt > softTtlMillis) {
+      staleServed.incrementAndGet();
+      refresh(key, loader);
+    }
+    return entry.value;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V load(K key, Function<K, V> loader) {
+    long startGeneration = generation.get();
+    V value = loads.load(key, () -> loader.apply(key));
+    put(key, value, startGeneration);
+    // callers that joined the same load must not share one mutable instance
+    return (V) BoundedTtlCache.copy(value);
+  }
+
+  public void setClock(LongSupplier clock) {
+    this.clock = clock;
+    store.setClock(clock);
+  }
+
+  public long generation() {
+    return generation.get();
+  }
+
+  public void put(K key, V value, long startGeneration) {
+    // reads inside a write transaction may see uncommitted rows
+    if (value == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return;
+    }
+    // checked and written under the lock invalidations take, so none can land in between
+    synchronized (writeLock) {
+      if (generation.get() == startGeneration) {
+        store.putObject(key, new Entry<>(value, clock.getAsLong()));
+      }
+    }
+  }
+
+  public void evict(K key) {
+    synchronized (writeLock) {
+      generation.incrementAndGet();
+      store.removeObject(key);
+    }
+  }
+
+  public void clear() {
+    synchronized (writeLock) {
+      generation.incrementAndGet();
+      store.clear();
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getStaleServed() {
+    return staleServed.get();
+  }
+
+  public long getRefreshFailures() {
+    return refreshFailures.get();
+  }
+
+  public long getRefreshesDropped() {
+    return refreshesDropped.get();
+  }
+
+  public int getLoadWaiters() {
+    return loads.getWaiting();
+  }
+
+  private void refresh(K key, Function<K, V> loader) {
+    if (!refreshing.add(key)) {
+      return;
+    }
+    Refresh refresh = new Refresh(key, loader, generation.get());
+    try {
+      REFRESHER.execute(refresh);
+    } catch (RejectedExecutionException e) {
+      refreshing.remove(key);
+      refreshesDropped.incrementAndGet();
+      return;
+    }
+    refresh
+        .result
+        .orTimeout(refreshDeadlineMillis, TimeUnit.MILLISECONDS)
+        .whenComplete(
+            (value, error) -> {
+              if (error != null) {
+                // keep serving the stale entry until its hard ttl
+                refreshFailures.incrementAndGet();
+                refresh.cancel();
+              } else if (value == null) {
+                evict(key);
+              } else {
+                put(key, value, refresh.startGeneration);
+              }
+            });
+  }
+
+  // the key stays marked as refreshing until the loader has really returned, so a hung load
+  // cannot be joined by another one for the same key
+  private class Refresh implements Runnable {
+    private final K key;
+    private final Function<K, V> loader;
+    private final long startGeneration;
+    private final CompletableFuture<V> result = new CompletableFuture<>();
+    private Thread runner;
+    private boolean cancelled;
+
+    Refresh(K key, Function<K, V> loader, long startGeneration) {
+      this.key = key;
+      this.loader = loader;
+      this.startGeneration = startGeneration;
+    }
+
+    @Override
+    public void run() {
+      try {
+        if (begin()) {
+          result.complete(loader.apply(key));
+        }
+      } catch (RuntimeException e) {
+        result.completeExceptionally(e);
+      } finally {
+        end();
+        refreshing.remove(key);
+      }
+    }
+
+    synchronized void cancel() {
+      cancelled = true;
+      if (runner != null) {
+        runner.interrupt();
+      }
+    }
+
+    private synchronized boolean begin() {
+      if (cancelled) {
+        return false;
+      }
+      runner = Thread.currentThread();
+      return true;
+    }
+
+    private synchronized void end() {
+      runner = null;
+      // an interrupt meant for this load must not leak into the next task on the thread
+      Thread.interrupted();
+    }
+  }
+
+  @AllArgsConstructor
+  private static class Entry<V> implements Serializable {
+    private final V value;
+    private final long loadedAt;
+  }
+}
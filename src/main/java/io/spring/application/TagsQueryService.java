@@ -1,16 +1,38 @@
 package io.spring.application;
 
+import io.spring.core.article.TagsChangedEvent;
 import io.spring.infrastructure.mybatis.readservice.TagReadService;
 import java.util.List;
-import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
-@AllArgsConstructor
 public class TagsQueryService {
-  private TagReadService tagReadService;
+  private static final String ALL = "all";
+
+  private final StaleWhileRevalidateCache<String, List<String>> tags;
+  private final TagReadService tagReadService;
+
+  public TagsQueryService(
+      TagReadService tagReadService,
+      @Value("${tags.cache.size:1}") int size,
+      @Value("${tags.cache.soft-ttl-millis:30000}") long softTtlMillis,
+      @Value("${tags.cache.hard-ttl-millis:600000}") long hardTtlMillis,
+      @Value("${tags.cache.refresh-deadline-millis:2000}") long refreshDeadlineMillis) {
+    this.tagReadService = tagReadService;
+    this.tags =
+        new StaleWhileRevalidateCache<>(
+            "tags", size, softTtlMillis, hardTtlMillis, refreshDeadlineMillis);
+  }
 
   public List<String> allTags() {
-    return tagReadService.all();
+    return tags.get(ALL, key -> tagReadService.all());
+  }
+
+  // favorites publish ArticleChangedEvent too, so listen only for article create, update and delete
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTagsChanged(TagsChangedEvent event) {
+    tags.evict(ALL);
   }
 }
@@ -1,7 +1,7 @@
 package io.spring.application.article;
 
-import io.spring.application.ArticleQueryService;
 import io.spring.core.article.Article;
+import io.spring.core.article.ArticleRepository;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,10 +9,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 class DuplicatedArticleValidator
     implements ConstraintValidator<DuplicatedArticleConstraint, String> {
 
-  @Autowired private ArticleQueryService articleQueryService;
+  @Autowired private ArticleRepository articleRepository;
 
   @Override
   public boolean isValid(String value, ConstraintValidatorContext context) {
-    return !articleQueryService.findBySlug(Article.toSlug(value), null).isPresent();
+    return !articleRepository.existsBySlug(Article.toSlug(value));
   }
 }
@@ -1,7 +1,9 @@
 package io.spring.application.data;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.spring.application.DateTimeCursor;
+import java.io.Serializable;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -11,12 +13,15 @@ import org.joda.time.DateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class ArticleData implements io.spring.application.Node {
+public class ArticleData implements io.spring.application.Node, Serializable {
   private String id;
   private String slug;
   private String title;
   private String description;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private String body;
+
   private boolean favorited;
   private int favoritesCount;
   private DateTime createdAt;
@@ -1,9 +1,10 @@
 package io.spring.application.data;
 
+import java.io.Serializable;
 import lombok.Value;
 
 @Value
-public class ArticleFavoriteCount {
+public class ArticleFavoriteCount implements Serializable {
   private String id;
   private Integer count;
 }
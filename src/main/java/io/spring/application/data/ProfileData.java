@@ -1,6 +1,7 @@
 package io.spring.application.data;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.io.Serializable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,7 +9,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class ProfileData {
+public class ProfileData implements Serializable {
   @JsonIgnore private String id;
   private String username;
   private String bio;
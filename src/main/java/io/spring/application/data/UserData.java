@@ -1,5 +1,6 @@
 package io.spring.application.data;
 
+import java.io.Serializable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,7 +8,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class UserData {
+public class UserData implements Serializable {
   private String id;
   private String email;
   private String username;
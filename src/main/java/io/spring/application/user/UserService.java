@@ -78,12 +78,13 @@ class UpdateUserValidator implements ConstraintValidator<UpdateUserConstraint, U
     final User targetUser = value.getTargetUser();
 
     boolean isEmailValid =
-        userRepository.findByEmail(inputEmail).map(user -> user.equals(targetUser)).orElse(true);
+        inputEmail == null
+            || inputEmail.equals(targetUser.getEmail())
+            || !userRepository.existsByEmail(inputEmail);
     boolean isUsernameValid =
-        userRepository
-            .findByUsername(inputUsername)
-            .map(user -> user.equals(targetUser))
-            .orElse(true);
+        inputUsername == null
+            || inputUsername.equals(targetUser.getUsername())
+            || !userRepository.existsByUsername(inputUsername);
     if (isEmailValid && isUsernameValid) {
       return true;
     } else {
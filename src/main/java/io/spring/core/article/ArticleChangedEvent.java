@@ -0,0 +1,8 @@
+package io.spring.core.article;
+
+import lombok.Value;
+
+@Value
+public class ArticleChangedEvent {
+  private String articleId;
+}
@@ -10,5 +10,7 @@ public interface ArticleRepository {
 
   Optional<Article> findBySlug(String slug);
 
+  boolean existsBySlug(String slug);
+
   void remove(Article article);
 }
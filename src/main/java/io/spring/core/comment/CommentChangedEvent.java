@@ -0,0 +1,8 @@
+package io.spring.core.comment;
+
+import lombok.Value;
+
+@Value
+public class CommentChangedEvent {
+  private String articleId;
+}
@@ -0,0 +1,8 @@
+package io.spring.core.user;
+
+import lombok.Value;
+
+@Value
+public class UserChangedEvent {
+  private String userId;
+}
@@ -13,6 +13,10 @@ public interface UserRepository {
 
   Optional<User> findByEmail(String email);
 
+  boolean existsByUsername(String username);
+
+  boolean existsByEmail(String email);
+
   void saveRelation(FollowRelation followRelation);
 
   Optional<FollowRelation> findRelation(String userId, String targetId);
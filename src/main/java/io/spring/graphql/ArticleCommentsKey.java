@@ -0,0 +1,11 @@
+package io.spring.graphql;
+
+import io.spring.application.CursorPageParameter;
+import lombok.Value;
+import org.joda.time.DateTime;
+
+@Value
+public class ArticleCommentsKey {
+  String articleId;
+  CursorPageParameter<DateTime> page;
+}
@@ -57,12 +57,14 @@ public class ArticleDatafetcher {
       articles =
           articleQueryService.findUserFeedWithCursor(
               current,
-              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT));
+              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
+              ArticleProjections.ofConnection(dfe.getSelectionSet()));
     } else {
       articles =
           articleQueryService.findUserFeedWithCursor(
               current,
-              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV));
+              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
+              ArticleProjections.ofConnection(dfe.getSelectionSet()));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -107,12 +109,14 @@ public class ArticleDatafetcher {
       articles =
           articleQueryService.findUserFeedWithCursor(
               target,
-              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT));
+              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
+              ArticleProjections.ofConnection(dfe.getSelectionSet()));
     } else {
       articles =
           articleQueryService.findUserFeedWithCursor(
               target,
-              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV));
+              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
+              ArticleProjections.ofConnection(dfe.getSelectionSet()));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -157,7 +161,8 @@ public class ArticleDatafetcher {
               null,
               profile.getUsername(),
               new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
-              current);
+              current,
+              ArticleProjections.ofConnection(dfe.getSelectionSet()));
     } else {
       articles =
           articleQueryService.findRecentArticlesWithCursor(
@@ -165,7 +170,8 @@ public class ArticleDatafetcher {
               null,
               profile.getUsername(),
               new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
-              current);
+              current,
+              ArticleProjections.ofConnection(dfe.getSelectionSet()));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
 
@@ -211,7 +217,8 @@ public class ArticleDatafetcher {
               profile.getUsername(),
               null,
               new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
-              current);
+              current,
+              ArticleProjections.ofConnection(dfe.getSelectionSet()));
     } else {
       articles =
           articleQueryService.findRecentArticlesWithCursor(
@@ -219,7 +226,8 @@ public class ArticleDatafetcher {
               profile.getUsername(),
               null,
               new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
-              current);
+              current,
+              ArticleProjections.ofConnection(dfe.getSelectionSet()));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -266,7 +274,8 @@ public class ArticleDatafetcher {
               authoredBy,
               favoritedBy,
               new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
-              current);
+              current,
+              ArticleProjections.ofConnection(dfe.getSelectionSet()));
     } else {
       articles =
           articleQueryService.findRecentArticlesWithCursor(
@@ -274,7 +283,8 @@ public class ArticleDatafetcher {
               authoredBy,
               favoritedBy,
               new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
-              current);
+              current,
+              ArticleProjections.ofConnection(dfe.getSelectionSet()));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -304,7 +314,8 @@ public class ArticleDatafetcher {
     User current = SecurityUtil.getCurrentUser().orElse(null);
     ArticleData articleData =
         articleQueryService
-            .findById(article.getId(), current)
+            .findById(
+                article.getId(), current, ArticleProjections.ofArticle(dfe.getSelectionSet()))
             .orElseThrow(ResourceNotFoundException::new);
     Article articleResult = buildArticleResult(articleData);
     return DataFetcherResult.<Article>newResult()
@@ -325,7 +336,10 @@ public class ArticleDatafetcher {
     User current = SecurityUtil.getCurrentUser().orElse(null);
     ArticleData articleData =
         articleQueryService
-            .findById(comment.getArticleId(), current)
+            .findById(
+                comment.getArticleId(),
+                current,
+                ArticleProjections.ofArticle(dataFetchingEnvironment.getSelectionSet()))
             .orElseThrow(ResourceNotFoundException::new);
     Article articleResult = buildArticleResult(articleData);
     return DataFetcherResult.<Article>newResult()
@@ -340,10 +354,13 @@ public class ArticleDatafetcher {
   }
 
   @DgsQuery(field = QUERY.Article)
-  public DataFetcherResult<Article> findArticleBySlug(@InputArgument("slug") String slug) {
+  public DataFetcherResult<Article> findArticleBySlug(
+      @InputArgument("slug") String slug, DataFetchingEnvironment dfe) {
     User current = SecurityUtil.getCurrentUser().orElse(null);
     ArticleData articleData =
-        articleQueryService.findBySlug(slug, current).orElseThrow(ResourceNotFoundException::new);
+        articleQueryService
+            .findBySlug(slug, current, ArticleProjections.ofArticle(dfe.getSelectionSet()))
+            .orElseThrow(ResourceNotFoundException::new);
     Article articleResult = buildArticleResult(articleData);
     return DataFetcherResult.<Article>newResult()
         .localContext(
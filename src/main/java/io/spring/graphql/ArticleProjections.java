@@ -0,0 +1,28 @@
+package io.spring.graphql;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+import io.spring.application.ArticleProjection;
+import io.spring.graphql.DgsConstants.ARTICLE;
+import io.spring.graphql.DgsConstants.PROFILE;
+
+public class ArticleProjections {
+  private static final String NODE = "edges/node/";
+
+  public static ArticleProjection ofArticle(DataFetchingFieldSelectionSet selectionSet) {
+    return of(selectionSet, "");
+  }
+
+  public static ArticleProjection ofConnection(DataFetchingFieldSelectionSet selectionSet) {
+    return of(selectionSet, NODE);
+  }
+
+  private static ArticleProjection of(DataFetchingFieldSelectionSet selectionSet, String prefix) {
+    return ArticleProjection.builder()
+        .body(selectionSet.contains(prefix + ARTICLE.Body))
+        .tags(selectionSet.contains(prefix + ARTICLE.TagList))
+        .favoritesCount(selectionSet.contains(prefix + ARTICLE.FavoritesCount))
+        .favorited(selectionSet.contains(prefix + ARTICLE.Favorited))
+        .following(selectionSet.contains(prefix + ARTICLE.Author + "/" + PROFILE.Following))
+        .build();
+  }
+}
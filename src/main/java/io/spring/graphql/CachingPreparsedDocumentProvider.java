@@ -0,0 +1,62 @@
+package io.spring.graphql;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CachingPreparsedDocumentProvider implements PreparsedDocumentProvider {
+  private final Map<String, PreparsedDocumentEntry> documents;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public CachingPreparsedDocumentProvider(
+      @Value("${graphql.document-cache.size:500}") int maxSize) {
+    this.documents =
+        Collections.synchronizedMap(
+            new LinkedHashMap<String, PreparsedDocumentEntry>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(
+                  Map.Entry<String, PreparsedDocumentEntry> eldest) {
+                return size() > maxSize;
+              }
+            });
+  }
+
+  @Override
+  public PreparsedDocumentEntry getDocument(
+      ExecutionInput executionInput,
+      Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+    String query = executionInput.getQuery();
+    PreparsedDocumentEntry entry = documents.get(query);
+    if (entry != null) {
+      hits.incrementAndGet();
+    } else {
+      misses.incrementAndGet();
+      entry = parseAndValidateFunction.apply(executionInput);
+      if (!entry.hasErrors()) {
+        documents.put(query, entry);
+      }
+    }
+    return entry;
+  }
+
+  public int getSize() {
+    return documents.size();
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+}
@@ -7,14 +7,12 @@ import com.netflix.graphql.dgs.InputArgument;
 import graphql.execution.DataFetcherResult;
 import graphql.relay.DefaultConnectionCursor;
 import graphql.relay.DefaultPageInfo;
-import io.spring.application.CommentQueryService;
 import io.spring.application.CursorPageParameter;
 import io.spring.application.CursorPager;
 import io.spring.application.CursorPager.Direction;
 import io.spring.application.DateTimeCursor;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.CommentData;
-import io.spring.core.user.User;
 import io.spring.graphql.DgsConstants.ARTICLE;
 import io.spring.graphql.DgsConstants.COMMENTPAYLOAD;
 import io.spring.graphql.types.Article;
@@ -23,14 +21,14 @@ import io.spring.graphql.types.CommentEdge;
 import io.spring.graphql.types.CommentsConnection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
+import org.dataloader.DataLoader;
+import org.joda.time.DateTime;
 import org.joda.time.format.ISODateTimeFormat;
 
 @DgsComponent
-@AllArgsConstructor
 public class CommentDatafetcher {
-  private CommentQueryService commentQueryService;
 
   @DgsData(parentType = COMMENTPAYLOAD.TYPE_NAME, field = COMMENTPAYLOAD.Comment)
   public DataFetcherResult<Comment> getComment(DgsDataFetchingEnvironment dfe) {
@@ -48,7 +46,7 @@ public class CommentDatafetcher {
   }
 
   @DgsData(parentType = ARTICLE.TYPE_NAME, field = ARTICLE.Comments)
-  public DataFetcherResult<CommentsConnection> articleComments(
+  public CompletableFuture<DataFetcherResult<CommentsConnection>> articleComments(
       @InputArgument("first") Integer first,
       @InputArgument("after") String after,
       @InputArgument("last") Integer last,
@@ -59,25 +57,25 @@ public class CommentDatafetcher {
       throw new IllegalArgumentException("first 和 last 必须只存在一个");
     }
 
-    User current = SecurityUtil.getCurrentUser().orElse(null);
     Article article = dfe.getSource();
     Map<String, ArticleData> map = dfe.getLocalContext();
     ArticleData articleData = map.get(article.getSlug());
 
-    CursorPager<CommentData> comments;
+    CursorPageParameter<DateTime> page;
     if (first != null) {
-      comments =
-          commentQueryService.findByArticleIdWithCursor(
-              articleData.getId(),
-              current,
-              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT));
+      page = new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT);
     } else {
-      comments =
-          commentQueryService.findByArticleIdWithCursor(
-              articleData.getId(),
-              current,
-              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV));
+      page = new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV);
     }
+    DataLoader<ArticleCommentsKey, CursorPager<CommentData>> dataLoader =
+        dfe.getDataLoader(CommentsDataLoader.NAME);
+    return dataLoader
+        .load(new ArticleCommentsKey(articleData.getId(), page))
+        .thenApply(this::buildCommentsConnectionResult);
+  }
+
+  private DataFetcherResult<CommentsConnection> buildCommentsConnectionResult(
+      CursorPager<CommentData> comments) {
     graphql.relay.PageInfo pageInfo = buildCommentPageInfo(comments);
     CommentsConnection result =
         CommentsConnection.newBuilder()
@@ -0,0 +1,48 @@
+package io.spring.graphql;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import com.netflix.graphql.dgs.DgsDataLoader;
+import io.spring.application.CommentQueryService;
+import io.spring.application.CursorPager;
+import io.spring.application.data.CommentData;
+import io.spring.core.user.User;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import lombok.AllArgsConstructor;
+import org.dataloader.MappedBatchLoader;
+
+@DgsDataLoader(name = CommentsDataLoader.NAME)
+@AllArgsConstructor
+public class CommentsDataLoader
+    implements MappedBatchLoader<ArticleCommentsKey, CursorPager<CommentData>> {
+  public static final String NAME = "articleComments";
+
+  private CommentQueryService commentQueryService;
+
+  @Override
+  public CompletionStage<Map<ArticleCommentsKey, CursorPager<CommentData>>> load(
+      Set<ArticleCommentsKey> keys) {
+    User current = SecurityUtil.getCurrentUser().orElse(null);
+    Map<ArticleCommentsKey, CursorPager<CommentData>> result = new HashMap<>();
+    keys.stream()
+        .collect(groupingBy(ArticleCommentsKey::getPage))
+        .forEach(
+            (page, pageKeys) -> {
+              List<String> articleIds =
+                  pageKeys.stream()
+                      .map(ArticleCommentsKey::getArticleId)
+                      .distinct()
+                      .collect(toList());
+              Map<String, CursorPager<CommentData>> comments =
+                  commentQueryService.findByArticleIdsWithCursor(articleIds, current, page);
+              pageKeys.forEach(key -> result.put(key, comments.get(key.getArticleId())));
+            });
+    return CompletableFuture.completedFuture(result);
+  }
+}
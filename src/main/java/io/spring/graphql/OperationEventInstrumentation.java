@@ -0,0 +1,32 @@
+package io.spring.graphql;
+
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import io.spring.infrastructure.diagnostics.GraphQLOperationEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OperationEventInstrumentation extends SimpleInstrumentation {
+
+  @Override
+  public InstrumentationContext<ExecutionResult> beginExecution(
+      InstrumentationExecutionParameters parameters) {
+    GraphQLOperationEvent event = new GraphQLOperationEvent();
+    if (!event.isEnabled()) {
+      return super.beginExecution(parameters);
+    }
+    event.begin();
+    return SimpleInstrumentationContext.whenCompleted(
+        (result, throwable) -> {
+          event.end();
+          if (event.shouldCommit()) {
+            event.setOperation(OperationMetricsInstrumentation.operationName(parameters));
+            event.setErrors(result == null ? 1 : result.getErrors().size());
+            event.commit();
+          }
+        });
+  }
+}
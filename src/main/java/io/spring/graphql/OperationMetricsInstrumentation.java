@@ -0,0 +1,44 @@
+package io.spring.graphql;
+
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OperationMetricsInstrumentation extends SimpleInstrumentation {
+  private final MeterRegistry meterRegistry;
+
+  public OperationMetricsInstrumentation(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public InstrumentationContext<ExecutionResult> beginExecution(
+      InstrumentationExecutionParameters parameters) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    return SimpleInstrumentationContext.whenCompleted(
+        (result, throwable) ->
+            sample.stop(
+                Timer.builder("graphql.operation")
+                    .tag("operation", operationName(parameters))
+                    .tag("outcome", outcome(result, throwable))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)));
+  }
+
+  static String operationName(InstrumentationExecutionParameters parameters) {
+    String operation = parameters.getOperation();
+    return operation == null || operation.isEmpty() ? "anonymous" : operation;
+  }
+
+  private static String outcome(ExecutionResult result, Throwable throwable) {
+    return throwable == null && result != null && result.getErrors().isEmpty()
+        ? "success"
+        : "error";
+  }
+}
@@ -0,0 +1,28 @@
+package io.spring.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PersistedQueryConfig {
+
+  @Bean
+  public PersistedQueryFilter persistedQueryFilter(
+      @Value("${graphql.persisted-queries.size:1000}") int maxSize) {
+    return new PersistedQueryFilter(new ObjectMapper(), maxSize);
+  }
+
+  // registering the filter here keeps Boot from also mapping the bean to every path
+  @Bean
+  public FilterRegistrationBean<PersistedQueryFilter> persistedQueryFilterRegistration(
+      PersistedQueryFilter persistedQueryFilter,
+      @Value("${dgs.graphql.path:/graphql}") String graphqlPath) {
+    FilterRegistrationBean<PersistedQueryFilter> registration =
+        new FilterRegistrationBean<>(persistedQueryFilter);
+    registration.addUrlPatterns(graphqlPath);
+    return registration;
+  }
+}
@@ -0,0 +1,197 @@
+package io.spring.graphql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class PersistedQueryFilter extends OncePerRequestFilter {
+  private final ObjectMapper objectMapper;
+  private final Map<String, String> queries;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public PersistedQueryFilter(ObjectMapper objectMapper, int maxSize) {
+    this.objectMapper = objectMapper;
+    this.queries =
+        Collections.synchronizedMap(
+            new LinkedHashMap<String, String>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+              }
+            });
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !"POST".equals(request.getMethod())
+        || request.getContentType() == null
+        || !request.getContentType().contains("json");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+    JsonNode json;
+    try {
+      json = objectMapper.readTree(body);
+    } catch (IOException e) {
+      filterChain.doFilter(new CachedBodyRequest(request, body), response);
+      return;
+    }
+    if (json == null || !json.isObject()) {
+      filterChain.doFilter(new CachedBodyRequest(request, body), response);
+      return;
+    }
+    String hash = json.path("extensions").path("persistedQuery").path("sha256Hash").asText(null);
+    if (hash == null) {
+      filterChain.doFilter(new CachedBodyRequest(request, body), response);
+      return;
+    }
+
+    JsonNode query = json.get("query");
+    if (query != null && query.isTextual()) {
+      if (!hash.equalsIgnoreCase(sha256(query.asText()))) {
+        writeError(response, "provided sha does not match query", "PERSISTED_QUERY_HASH_MISMATCH");
+        return;
+      }
+      queries.put(hash.toLowerCase(), query.asText());
+      filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    } else {
+      String persisted = queries.get(hash.toLowerCase());
+      if (persisted == null) {
+        misses.incrementAndGet();
+        writeError(response, "PersistedQueryNotFound", "PERSISTED_QUERY_NOT_FOUND");
+        return;
+      }
+      hits.incrementAndGet();
+      ((ObjectNode) json).put("query", persisted);
+      filterChain.doFilter(
+          new CachedBodyRequest(request, objectMapper.writeValueAsBytes(json)), response);
+    }
+  }
+
+  public int getSize() {
+    return queries.size();
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  private void writeError(HttpServletResponse response, String message, String code)
+      throws IOException {
+    Map<String, Object> error = new HashMap<>();
+    error.put("message", message);
+    error.put("extensions", Collections.singletonMap("code", code));
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(
+        response.getOutputStream(),
+        Collections.singletonMap("errors", Collections.singletonList(error)));
+  }
+
+  static String sha256(String query) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(query.getBytes(StandardCharsets.UTF_8));
+      return String.format("%064x", new BigInteger(1, hash));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class CachedBodyRequest extends HttpServletRequestWrapper {
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public boolean isFinished() {
+          return inputStream.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          // the body is already in memory, so it is available and complete straight away
+          try {
+            if (!isFinished()) {
+              readListener.onDataAvailable();
+            }
+            if (isFinished()) {
+              readListener.onAllDataRead();
+            }
+          } catch (IOException e) {
+            readListener.onError(e);
+          }
+        }
+
+        @Override
+        public int read() {
+          return inputStream.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+          return inputStream.read(b, off, len);
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int getContentLength() {
+      return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+      return body.length;
+    }
+  }
+}
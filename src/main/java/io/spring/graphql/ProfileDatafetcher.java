@@ -38,14 +38,14 @@ public class ProfileDatafetcher {
   public Profile getAuthor(DataFetchingEnvironment dataFetchingEnvironment) {
     Map<String, ArticleData> map = dataFetchingEnvironment.getLocalContext();
     Article article = dataFetchingEnvironment.getSource();
-    return queryProfile(map.get(article.getSlug()).getProfileData().getUsername());
+    return buildProfile(map.get(article.getSlug()).getProfileData());
   }
 
   @DgsData(parentType = COMMENT.TYPE_NAME, field = COMMENT.Author)
   public Profile getCommentAuthor(DataFetchingEnvironment dataFetchingEnvironment) {
     Comment comment = dataFetchingEnvironment.getSource();
     Map<String, CommentData> map = dataFetchingEnvironment.getLocalContext();
-    return queryProfile(map.get(comment.getId()).getProfileData().getUsername());
+    return buildProfile(map.get(comment.getId()).getProfileData());
   }
 
   @DgsData(parentType = DgsConstants.QUERY_TYPE, field = QUERY.Profile)
@@ -61,6 +61,10 @@ public class ProfileDatafetcher {
         profileQueryService
             .findByUsername(username, current)
             .orElseThrow(ResourceNotFoundException::new);
+    return buildProfile(profileData);
+  }
+
+  private Profile buildProfile(ProfileData profileData) {
     return Profile.newBuilder()
         .username(profileData.getUsername())
         .bio(profileData.getBio())
@@ -0,0 +1,162 @@
+package io.spring.graphql;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.GraphQLTypeUtil;
+import io.spring.application.CursorPageParameter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryCostInstrumentation extends SimpleInstrumentation {
+  private final int maxDepth;
+  private final long maxCost;
+  private final int defaultListSize;
+
+  public QueryCostInstrumentation(
+      @Value("${graphql.query.max-depth:10}") int maxDepth,
+      @Value("${graphql.query.max-cost:5000}") long maxCost,
+      @Value("${graphql.query.default-list-size:20}") int defaultListSize) {
+    this.maxDepth = maxDepth;
+    this.maxCost = maxCost;
+    this.defaultListSize = defaultListSize;
+  }
+
+  @Override
+  public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+    return new QueryCostState();
+  }
+
+  @Override
+  public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+      InstrumentationExecuteOperationParameters parameters) {
+    QueryCostState state = parameters.getInstrumentationState();
+    ExecutionContext executionContext = parameters.getExecutionContext();
+    QueryTraverser queryTraverser =
+        QueryTraverser.newQueryTraverser()
+            .schema(executionContext.getGraphQLSchema())
+            .document(executionContext.getDocument())
+            .operationName(executionContext.getOperationDefinition().getName())
+            .variables(executionContext.getVariables())
+            .build();
+    queryTraverser.visitPreOrder(
+        new QueryVisitorStub() {
+          @Override
+          public void visitField(QueryVisitorFieldEnvironment env) {
+            if (isIntrospection(env)) {
+              return;
+            }
+            long multiplier = 1;
+            int depth = 1;
+            for (QueryVisitorFieldEnvironment parent = env.getParentEnvironment();
+                parent != null;
+                parent = parent.getParentEnvironment()) {
+              multiplier = saturatedMultiply(multiplier, listSize(parent));
+              depth++;
+            }
+            state.estimatedCost = saturatedAdd(state.estimatedCost, multiplier);
+            state.depth = Math.max(state.depth, depth);
+          }
+        });
+
+    if (state.depth > maxDepth) {
+      throw new AbortExecutionException(
+          String.format(
+              "query depth %d exceeds the maximum allowed depth %d", state.depth, maxDepth));
+    }
+    if (state.estimatedCost > maxCost) {
+      throw new AbortExecutionException(
+          String.format(
+              "query cost %d exceeds the maximum allowed cost %d", state.estimatedCost, maxCost));
+    }
+    return SimpleInstrumentationContext.noOp();
+  }
+
+  @Override
+  public InstrumentationContext<Object> beginFieldFetch(
+      InstrumentationFieldFetchParameters parameters) {
+    QueryCostState state = parameters.getInstrumentationState();
+    state.actualCost.incrementAndGet();
+    return SimpleInstrumentationContext.noOp();
+  }
+
+  @Override
+  public CompletableFuture<ExecutionResult> instrumentExecutionResult(
+      ExecutionResult executionResult, InstrumentationExecutionParameters parameters) {
+    QueryCostState state = parameters.getInstrumentationState();
+    Map<String, Object> cost = new LinkedHashMap<>();
+    cost.put("estimated", state.estimatedCost);
+    cost.put("actual", state.actualCost.get());
+    cost.put("depth", state.depth);
+    return CompletableFuture.completedFuture(
+        ExecutionResultImpl.newExecutionResult()
+            .from(executionResult)
+            .addExtension("cost", cost)
+            .build());
+  }
+
+  private long listSize(QueryVisitorFieldEnvironment env) {
+    Integer pageSize = pageSize(env.getArguments());
+    if (pageSize != null) {
+      return pageSize;
+    }
+    if (GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(env.getFieldDefinition().getType()))) {
+      QueryVisitorFieldEnvironment parent = env.getParentEnvironment();
+      boolean isConnectionEdges = parent != null && pageSize(parent.getArguments()) != null;
+      return isConnectionEdges ? 1 : defaultListSize;
+    }
+    return 1;
+  }
+
+  private static Integer pageSize(Map<String, Object> arguments) {
+    Object size = arguments.get("first") != null ? arguments.get("first") : arguments.get("last");
+    if (!(size instanceof Number)) {
+      return null;
+    }
+    return Math.max(1, Math.min(((Number) size).intValue(), CursorPageParameter.MAX_LIMIT));
+  }
+
+  private static boolean isIntrospection(QueryVisitorFieldEnvironment env) {
+    for (QueryVisitorFieldEnvironment current = env;
+        current != null;
+        current = current.getParentEnvironment()) {
+      if (current.getField().getName().startsWith("__")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long saturatedMultiply(long a, long b) {
+    long result = a * b;
+    return (a != 0 && result / a != b) ? Long.MAX_VALUE : result;
+  }
+
+  private static long saturatedAdd(long a, long b) {
+    long result = a + b;
+    return result < a ? Long.MAX_VALUE : result;
+  }
+
+  static class QueryCostState implements InstrumentationState {
+    private long estimatedCost;
+    private int depth;
+    private final AtomicLong actualCost = new AtomicLong();
+  }
+}
@@ -10,9 +10,11 @@ import graphql.execution.DataFetcherExceptionHandlerResult;
 import io.spring.api.exception.FieldErrorResource;
 import io.spring.api.exception.InvalidAuthenticationException;
 import io.spring.graphql.types.Error;
+import io.spring.infrastructure.repository.DuplicatedValueException;
 import io.spring.graphql.types.ErrorItem;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +64,19 @@ public class GraphQLCustomizeExceptionHandler implements DataFetcherExceptionHan
               .extensions(errorsToMap(errors))
               .build();
       return DataFetcherExceptionHandlerResult.newResult().error(graphqlError).build();
+    } else if (handlerParameters.getException() instanceof DuplicatedValueException) {
+      DuplicatedValueException e = (DuplicatedValueException) handlerParameters.getException();
+      GraphQLError graphqlError =
+          TypedGraphQLError.newBadRequestBuilder()
+              .message(e.getReason())
+              .path(handlerParameters.getPath())
+              .extensions(
+                  errorsToMap(
+                      Collections.singletonList(
+                          new FieldErrorResource(
+                              null, e.getField(), "Duplicated", e.getReason()))))
+              .build();
+      return DataFetcherExceptionHandlerResult.newResult().error(graphqlError).build();
     } else {
       return defaultHandler.onException(handlerParameters);
     }
@@ -0,0 +1,332 @@
+package io.spring.infrastructure.datagen;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@Profile("datagen")
+public class DatasetGenerator implements CommandLineRunner {
+  // bcrypt of "password123", same as the seed users
+  private static final String PASSWORD =
+      "$2a$10$AbglDchyhkogGBIxNoHdN.pBDK86VNXtF.Vh6N72G9s1rjw7z2b4u";
+  private static final String IMAGE = "https://static.productionready.io/images/smiley-cyrus.jpg";
+  private static final long EPOCH = 1_577_836_800_000L;
+  private static final long ARTICLE_INTERVAL = 60_000L;
+  private static final long DAY = 86_400_000L;
+  private static final String[] WORDS = {
+    "spring", "java", "query", "cache", "index", "latency", "thread", "commit", "page", "cursor",
+    "graph", "token", "filter", "batch", "stream", "profile", "feed", "article", "comment", "tag"
+  };
+
+  private static final String INSERT_USER =
+      "insert into users (id, username, password, email, bio, image) values (?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_TAG = "insert into tags (id, name) values (?, ?)";
+  private static final String INSERT_ARTICLE =
+      "insert into articles (id, user_id, slug, title, description, body, created_at, updated_at)"
+          + " values (?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_ARTICLE_TAG =
+      "insert into article_tags (article_id, tag_id) values (?, ?)";
+  private static final String INSERT_FOLLOW =
+      "insert into follows (user_id, follow_id) values (?, ?)";
+  private static final String INSERT_FAVORITE =
+      "insert into article_favorites (article_id, user_id) values (?, ?)";
+  private static final String INSERT_COMMENT =
+      "insert into comments (id, body, article_id, user_id, created_at, updated_at)"
+          + " values (?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final long seed;
+  private final int users;
+  private final int articles;
+  private final int tags;
+  private final int followsPerUser;
+  private final int favoritesPerUser;
+  private final int commentsPerArticle;
+  private final double exponent;
+  private final int batchSize;
+  private final int threads;
+
+  @Autowired
+  public DatasetGenerator(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${datagen.seed:42}") long seed,
+      @Value("${datagen.users:10000}") int users,
+      @Value("${datagen.articles:100000}") int articles,
+      @Value("${datagen.tags:500}") int tags,
+      @Value("${datagen.follows-per-user:50}") int followsPerUser,
+      @Value("${datagen.favorites-per-user:20}") int favoritesPerUser,
+      @Value("${datagen.comments-per-article:5}") int commentsPerArticle,
+      @Value("${datagen.zipf-exponent:1.07}") double exponent,
+      @Value("${datagen.batch-size:1000}") int batchSize,
+      @Value("${datagen.threads:4}") int threads) {
+    if (users < 2 || articles < 1 || tags < 1) {
+      throw new IllegalArgumentException("datagen needs at least 2 users, 1 article and 1 tag");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.seed = seed;
+    this.users = users;
+    this.articles = articles;
+    this.tags = tags;
+    this.followsPerUser = followsPerUser;
+    this.favoritesPerUser = favoritesPerUser;
+    this.commentsPerArticle = commentsPerArticle;
+    this.exponent = exponent;
+    this.batchSize = batchSize;
+    this.threads = threads;
+  }
+
+  @Override
+  public void run(String... args) {
+    Popularity authorPopularity = popularity("authorPopularity", users);
+    Popularity followPopularity = popularity("followPopularity", users);
+    Popularity articlePopularity = popularity("articlePopularity", articles);
+    Popularity tagPopularity = popularity("tagPopularity", tags);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      write(executor, "users", users, this::users);
+      write(executor, "tags", tags, this::tags);
+      write(
+          executor,
+          "articles",
+          articles,
+          (from, to, random, batch) ->
+              articles(from, to, random, batch, authorPopularity, tagPopularity));
+      write(
+          executor,
+          "follows",
+          users,
+          (from, to, random, batch) -> follows(from, to, random, batch, followPopularity));
+      write(
+          executor,
+          "favorites",
+          users,
+          (from, to, random, batch) -> favorites(from, to, random, batch, articlePopularity));
+      write(
+          executor,
+          "comments",
+          articles * commentsPerArticle,
+          (from, to, random, batch) -> comments(from, to, random, batch, articlePopularity));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // chunks are generated in parallel but written in order, since SQLite has a single writer
+  private void write(ExecutorService executor, String name, int count, ChunkGenerator generator) {
+    int chunks = (count + batchSize - 1) / batchSize;
+    Deque<CompletableFuture<Batch>> inFlight = new ArrayDeque<>();
+    int submitted = 0;
+    long written = 0;
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      while (submitted < chunks && inFlight.size() < threads * 2) {
+        int from = submitted * batchSize;
+        int to = Math.min(count, from + batchSize);
+        SplittableRandom random = new SplittableRandom(seed * 1_000_003L + name.hashCode() + from);
+        inFlight.add(
+            CompletableFuture.supplyAsync(
+                () -> {
+                  Batch generated = new Batch();
+                  generator.generate(from, to, random, generated);
+                  return generated;
+                },
+                executor));
+        submitted++;
+      }
+      Batch batch = inFlight.removeFirst().join();
+      transactionTemplate.executeWithoutResult(
+          status -> batch.statements.forEach((sql, args) -> jdbcTemplate.batchUpdate(sql, args)));
+      written += batch.size();
+    }
+    log.info("Generated {} rows for {}", written, name);
+  }
+
+  private void users(int from, int to, SplittableRandom random, Batch batch) {
+    for (int i = from; i < to; i++) {
+      batch.add(
+          INSERT_USER,
+          id("user", i),
+          "user" + i,
+          PASSWORD,
+          "user" + i + "@example.com",
+          sentence(random, 8),
+          IMAGE);
+    }
+  }
+
+  private void tags(int from, int to, SplittableRandom random, Batch batch) {
+    for (int i = from; i < to; i++) {
+      batch.add(INSERT_TAG, id("tag", i), "tag" + i);
+    }
+  }
+
+  private void articles(
+      int from,
+      int to,
+      SplittableRandom random,
+      Batch batch,
+      Popularity authorPopularity,
+      Popularity tagPopularity) {
+    for (int i = from; i < to; i++) {
+      Timestamp createdAt = new Timestamp(articleCreatedAt(i));
+      batch.add(
+          INSERT_ARTICLE,
+          id("article", i),
+          id("user", authorPopularity.sample(random)),
+          "article-" + i,
+          "Article " + i + " " + sentence(random, 4),
+          sentence(random, 12),
+          sentence(random, 60),
+          createdAt,
+          createdAt);
+      for (int tag : distinct(random, tagPopularity, 1 + random.nextInt(4), -1)) {
+        batch.add(INSERT_ARTICLE_TAG, id("article", i), id("tag", tag));
+      }
+    }
+  }
+
+  private void follows(
+      int from, int to, SplittableRandom random, Batch batch, Popularity followPopularity) {
+    for (int i = from; i < to; i++) {
+      int count = random.nextInt(2 * followsPerUser + 1);
+      for (int target : distinct(random, followPopularity, count, i)) {
+        batch.add(INSERT_FOLLOW, id("user", i), id("user", target));
+      }
+    }
+  }
+
+  private void favorites(
+      int from, int to, SplittableRandom random, Batch batch, Popularity articlePopularity) {
+    for (int i = from; i < to; i++) {
+      int count = random.nextInt(2 * favoritesPerUser + 1);
+      for (int article : distinct(random, articlePopularity, count, -1)) {
+        batch.add(INSERT_FAVORITE, id("article", article), id("user", i));
+      }
+    }
+  }
+
+  private void comments(
+      int from, int to, SplittableRandom random, Batch batch, Popularity articlePopularity) {
+    for (int i = from; i < to; i++) {
+      int article = articlePopularity.sample(random);
+      Timestamp createdAt = new Timestamp(articleCreatedAt(article) + random.nextLong(DAY));
+      batch.add(
+          INSERT_COMMENT,
+          id("comment", i),
+          sentence(random, 20),
+          id("article", article),
+          id("user", random.nextInt(users)),
+          createdAt,
+          createdAt);
+    }
+  }
+
+  private Set<Integer> distinct(
+      SplittableRandom random, Popularity distribution, int count, int excluded) {
+    Set<Integer> picked = new LinkedHashSet<>();
+    int target = Math.min(count, distribution.size() - (excluded >= 0 ? 1 : 0));
+    for (int attempt = 0; picked.size() < target && attempt < target * 4; attempt++) {
+      int sample = distribution.sample(random);
+      if (sample != excluded) {
+        picked.add(sample);
+      }
+    }
+    return picked;
+  }
+
+  private Popularity popularity(String name, int size) {
+    return new Popularity(
+        new ZipfDistribution(size, exponent),
+        new SplittableRandom(seed * 1_000_003L + name.hashCode()));
+  }
+
+  private long articleCreatedAt(int article) {
+    return EPOCH + article * ARTICLE_INTERVAL;
+  }
+
+  private String id(String kind, int index) {
+    String name = seed + ":" + kind + ":" + index;
+    return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+  }
+
+  private static String sentence(SplittableRandom random, int words) {
+    StringBuilder sentence = new StringBuilder();
+    for (int i = 0; i < words; i++) {
+      if (i > 0) {
+        sentence.append(' ');
+      }
+      sentence.append(WORDS[random.nextInt(WORDS.length)]);
+    }
+    return sentence.toString();
+  }
+
+  // ranks map onto a seeded shuffle of row indexes, so the hottest article is not also the oldest
+  // and the most followed user is not also the most prolific author
+  private static class Popularity {
+    private final ZipfDistribution distribution;
+    private final int[] rows;
+
+    Popularity(ZipfDistribution distribution, SplittableRandom random) {
+      this.distribution = distribution;
+      this.rows = new int[distribution.size()];
+      for (int i = 0; i < rows.length; i++) {
+        rows[i] = i;
+      }
+      for (int i = rows.length - 1; i > 0; i--) {
+        int j = random.nextInt(i + 1);
+        int swap = rows[i];
+        rows[i] = rows[j];
+        rows[j] = swap;
+      }
+    }
+
+    int sample(SplittableRandom random) {
+      return rows[distribution.sample(random)];
+    }
+
+    int size() {
+      return rows.length;
+    }
+  }
+
+  private interface ChunkGenerator {
+    void generate(int from, int to, SplittableRandom random, Batch batch);
+  }
+
+  private static class Batch {
+    private final Map<String, List<Object[]>> statements = new LinkedHashMap<>();
+
+    void add(String sql, Object... row) {
+      statements.computeIfAbsent(sql, key -> new ArrayList<>()).add(row);
+    }
+
+    int size() {
+      return statements.values().stream().mapToInt(List::size).sum();
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package io.spring.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+  public enum Route {
+    READ,
+    WRITE
+  }
+
+  private static final ThreadLocal<Boolean> WRITING = ThreadLocal.withInitial(() -> false);
+
+  static boolean markWriting() {
+    boolean previous = WRITING.get();
+    WRITING.set(true);
+    return previous;
+  }
+
+  static void restoreWriting(boolean previous) {
+    WRITING.set(previous);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+          ? Route.READ
+          : Route.WRITE;
+    }
+    return WRITING.get() ? Route.WRITE : Route.READ;
+  }
+}
@@ -0,0 +1,96 @@
+package io.spring.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.spring.infrastructure.datasource.ReadWriteRoutingDataSource.Route;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteDataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "sqlite.wal.enabled", havingValue = "true")
+public class SqliteDataSourceConfig {
+  @Value("${spring.datasource.url}")
+  private String url;
+
+  @Value("${sqlite.wal.cache-size-kib:16384}")
+  private int cacheSizeKib;
+
+  @Value("${sqlite.wal.mmap-size:268435456}")
+  private long mmapSize;
+
+  @Value("${sqlite.wal.busy-timeout-millis:5000}")
+  private int busyTimeoutMillis;
+
+  @Value("${sqlite.wal.readers:4}")
+  private int readers;
+
+  @Bean(destroyMethod = "close")
+  @FlywayDataSource
+  public HikariDataSource sqliteWriterDataSource() {
+    return pool(
+        "sqlite-writer", url, 1, false, walConfig(cacheSizeKib, mmapSize, busyTimeoutMillis));
+  }
+
+  @Bean(destroyMethod = "close")
+  public HikariDataSource sqliteReaderDataSource() {
+    return pool(
+        "sqlite-reader", url, readers, true, walConfig(cacheSizeKib, mmapSize, busyTimeoutMillis));
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("sqliteWriterDataSource") DataSource writer,
+      @Qualifier("sqliteReaderDataSource") DataSource reader) {
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(Route.WRITE, writer);
+    targets.put(Route.READ, reader);
+    ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+    routing.setTargetDataSources(targets);
+    routing.setDefaultTargetDataSource(reader);
+    routing.afterPropertiesSet();
+    // defer picking a pool until the first statement, when the transaction state is known
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+
+  @Bean
+  public WriteRoutingInterceptor writeRoutingInterceptor() {
+    return new WriteRoutingInterceptor();
+  }
+
+  public static SQLiteConfig walConfig(int cacheSizeKib, long mmapSize, int busyTimeoutMillis) {
+    SQLiteConfig config = new SQLiteConfig();
+    config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+    config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+    config.setCacheSize(-cacheSizeKib);
+    config.setBusyTimeout(busyTimeoutMillis);
+    config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(mmapSize));
+    return config;
+  }
+
+  public static HikariDataSource pool(
+      String name, String url, int size, boolean readOnly, SQLiteConfig config) {
+    SQLiteDataSource sqlite = new SQLiteDataSource(config);
+    sqlite.setUrl(url);
+    HikariConfig hikari = new HikariConfig();
+    hikari.setPoolName(name);
+    hikari.setDataSource(sqlite);
+    hikari.setMaximumPoolSize(size);
+    hikari.setMinimumIdle(size);
+    if (readOnly) {
+      hikari.setConnectionInitSql("PRAGMA query_only = 1");
+    }
+    return new HikariDataSource(hikari);
+  }
+}
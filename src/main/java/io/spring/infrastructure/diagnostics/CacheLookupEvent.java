@@ -0,0 +1,21 @@
+package io.spring.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("io.spring.CacheLookup")
+@Label("Cache Lookup")
+@Category({"RealWorld", "Cache"})
+@StackTrace(false)
+@Setter
+public class CacheLookupEvent extends Event {
+  @Label("Cache")
+  private String cache;
+
+  @Label("Hit")
+  private boolean hit;
+}
@@ -0,0 +1,21 @@
+package io.spring.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("io.spring.GraphQLOperation")
+@Label("GraphQL Operation")
+@Category({"RealWorld", "Web"})
+@StackTrace(false)
+@Setter
+public class GraphQLOperationEvent extends Event {
+  @Label("Operation")
+  private String operation;
+
+  @Label("Errors")
+  private int errors;
+}
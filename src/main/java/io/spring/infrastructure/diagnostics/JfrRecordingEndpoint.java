@@ -0,0 +1,176 @@
+package io.spring.infrastructure.diagnostics;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+  private static final String SETTINGS = "jfr/realworld.jfc";
+  private static final EnumSet<RecordingState> ACTIVE =
+      EnumSet.of(RecordingState.NEW, RecordingState.DELAYED, RecordingState.RUNNING);
+
+  private final Path directory;
+  private final int defaultSeconds;
+  private final int maxSeconds;
+  private final int retained;
+  private final Map<String, Recording> recordings = new ConcurrentHashMap<>();
+
+  public JfrRecordingEndpoint(
+      @Value("${jfr.directory:${java.io.tmpdir}}") String directory,
+      @Value("${jfr.default-duration-seconds:60}") int defaultSeconds,
+      @Value("${jfr.max-duration-seconds:300}") int maxSeconds,
+      @Value("${jfr.retained-recordings:3}") int retained) {
+    this.directory = Paths.get(directory);
+    this.defaultSeconds = defaultSeconds;
+    this.maxSeconds = maxSeconds;
+    this.retained = retained;
+  }
+
+  @ReadOperation
+  public List<Map<String, Object>> recordings() {
+    return recordings.values().stream().map(JfrRecordingEndpoint::describe).collect(toList());
+  }
+
+  @WriteOperation
+  public synchronized WebEndpointResponse<Map<String, Object>> start(
+      @Nullable Integer durationSeconds) throws IOException, ParseException {
+    if (recordings.values().stream().anyMatch(recording -> ACTIVE.contains(recording.getState()))) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+    }
+    prune();
+    int requested = durationSeconds == null ? defaultSeconds : durationSeconds;
+    int seconds = Math.max(1, Math.min(requested, maxSeconds));
+    String name = "realworld-" + System.currentTimeMillis();
+    Recording recording = new Recording(settings());
+    recording.setName(name);
+    recording.setToDisk(true);
+    recording.setDuration(Duration.ofSeconds(seconds));
+    recording.setDestination(directory.resolve(name + ".jfr"));
+    recording.start();
+    recordings.put(name, recording);
+    return new WebEndpointResponse<>(describe(recording));
+  }
+
+  @ReadOperation(produces = "application/octet-stream")
+  public WebEndpointResponse<Resource> dump(@Selector String name) throws IOException {
+    Recording recording = recordings.get(name);
+    if (recording == null || recording.getState() == RecordingState.CLOSED) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+    if (ACTIVE.contains(recording.getState())) {
+      Path partial = Files.createTempFile(directory, name + "-partial", ".jfr");
+      recording.dump(partial);
+      return new WebEndpointResponse<>(new TransientFileResource(partial));
+    }
+    return new WebEndpointResponse<>(new FileSystemResource(recording.getDestination()));
+  }
+
+  @PreDestroy
+  public void close() {
+    recordings.values().forEach(JfrRecordingEndpoint::discard);
+    recordings.clear();
+  }
+
+  // keeps the newest finished recordings for download and deletes the rest from disk
+  private void prune() {
+    List<Recording> finished =
+        recordings.values().stream()
+            .filter(recording -> !ACTIVE.contains(recording.getState()))
+            .sorted(Comparator.comparing(Recording::getStartTime).reversed())
+            .collect(toList());
+    int keep = Math.min(retained, finished.size());
+    for (Recording recording : finished.subList(keep, finished.size())) {
+      recordings.remove(recording.getName());
+      discard(recording);
+    }
+  }
+
+  private static void discard(Recording recording) {
+    Path destination = recording.getDestination();
+    recording.close();
+    if (destination != null) {
+      try {
+        Files.deleteIfExists(destination);
+      } catch (IOException e) {
+        destination.toFile().deleteOnExit();
+      }
+    }
+  }
+
+  // application events are layered over the JDK default profile so the usual CPU, GC and
+  // allocation data stays in the same recording
+  static Map<String, String> settings() throws IOException, ParseException {
+    Map<String, String> settings =
+        new HashMap<>(Configuration.getConfiguration("default").getSettings());
+    try (Reader reader =
+        new InputStreamReader(
+            new ClassPathResource(SETTINGS).getInputStream(), StandardCharsets.UTF_8)) {
+      settings.putAll(Configuration.create(reader).getSettings());
+    }
+    return settings;
+  }
+
+  // a point-in-time dump of a running recording is only needed until it has been streamed
+  static class TransientFileResource extends FileSystemResource {
+    TransientFileResource(Path path) {
+      super(path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      return new FilterInputStream(super.getInputStream()) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            Files.deleteIfExists(getFile().toPath());
+          }
+        }
+      };
+    }
+  }
+
+  private static Map<String, Object> describe(Recording recording) {
+    Map<String, Object> description = new LinkedHashMap<>();
+    description.put("name", recording.getName());
+    description.put("state", recording.getState().name());
+    description.put("duration", String.valueOf(recording.getDuration()));
+    description.put("destination", String.valueOf(recording.getDestination()));
+    return description;
+  }
+}
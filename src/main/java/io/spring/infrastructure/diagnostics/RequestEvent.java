@@ -0,0 +1,29 @@
+package io.spring.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("io.spring.Request")
+@Label("HTTP Request")
+@Description("A request handled by a REST or GraphQL controller")
+@Category({"RealWorld", "Web"})
+@StackTrace(false)
+@Setter
+public class RequestEvent extends Event {
+  @Label("Method")
+  private String method;
+
+  @Label("Route")
+  private String route;
+
+  @Label("Status")
+  private int status;
+
+  @Label("User Present")
+  private boolean userPresent;
+}
@@ -0,0 +1,16 @@
+package io.spring.infrastructure.diagnostics;
+
+import java.util.List;
+import lombok.Value;
+
+@Value
+public class SlowStatement {
+  String executedAt;
+  String statementId;
+  String sql;
+  List<String> parameters;
+  int rows;
+  double elapsedMillis;
+  boolean sampled;
+  List<String> plan;
+}
@@ -0,0 +1,19 @@
+package io.spring.infrastructure.diagnostics;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "slowqueries")
+@AllArgsConstructor
+public class SlowStatementEndpoint {
+  private SlowStatementRecorder slowStatementRecorder;
+
+  @ReadOperation
+  public List<SlowStatement> slowQueries() {
+    return slowStatementRecorder.getEntries();
+  }
+}
@@ -0,0 +1,182 @@
+package io.spring.infrastructure.diagnostics;
+
+import static java.util.stream.Collectors.toList;
+
+import io.spring.infrastructure.mybatis.SqlParameter;
+import io.spring.infrastructure.mybatis.SqlStatementExecution;
+import io.spring.infrastructure.mybatis.SqlStatementListener;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class SlowStatementRecorder implements SqlStatementListener {
+  private static final int MAX_VALUE_LENGTH = 64;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final long thresholdNanos;
+  private final int sampleRate;
+  private final int bufferSize;
+  private final boolean explain;
+  private final AtomicLong seen = new AtomicLong();
+  private final Deque<SlowStatement> entries = new ArrayDeque<>();
+  private final ThreadPoolExecutor recorder;
+
+  public SlowStatementRecorder(
+      DataSource dataSource,
+      @Value("${slow-query.threshold-millis:100}") long thresholdMillis,
+      @Value("${slow-query.sample-rate:1000}") int sampleRate,
+      @Value("${slow-query.buffer-size:200}") int bufferSize,
+      @Value("${slow-query.explain:true}") boolean explain) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    this.sampleRate = sampleRate;
+    this.bufferSize = bufferSize;
+    this.explain = explain;
+    // EXPLAIN and logging run off the request thread; when it falls behind, entries are dropped
+    this.recorder =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(256),
+            runnable -> {
+              Thread thread = new Thread(runnable, "slow-query");
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+  }
+
+  @Override
+  public void onStatement(SqlStatementExecution execution) {
+    boolean slow = execution.getElapsedNanos() >= thresholdNanos;
+    boolean sampled = !slow && sampleRate > 0 && seen.incrementAndGet() % sampleRate == 0;
+    if (!slow && !sampled) {
+      return;
+    }
+    String executedAt = Instant.now().toString();
+    List<SqlParameter> parameters = execution.getParameters();
+    recorder.execute(() -> record(executedAt, execution, parameters, sampled));
+  }
+
+  public List<SlowStatement> getEntries() {
+    synchronized (entries) {
+      List<SlowStatement> newestFirst = new ArrayList<>(entries);
+      Collections.reverse(newestFirst);
+      return newestFirst;
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    recorder.shutdownNow();
+  }
+
+  void awaitRecorded() throws Exception {
+    try {
+      recorder.submit(() -> {}).get(5, TimeUnit.SECONDS);
+    } catch (TimeoutException e) {
+      throw new IllegalStateException("slow query recorder did not drain", e);
+    }
+  }
+
+  private void record(
+      String executedAt,
+      SqlStatementExecution execution,
+      List<SqlParameter> parameters,
+      boolean sampled) {
+    SlowStatement entry =
+        new SlowStatement(
+            executedAt,
+            execution.getStatementId(),
+            execution.getSql().replaceAll("\\s+", " ").trim(),
+            parameters.stream().map(SlowStatementRecorder::describe).collect(toList()),
+            execution.getRows(),
+            execution.getElapsedNanos() / 1_000_000.0,
+            sampled,
+            explain ? explain(execution.getSql(), parameters) : Collections.emptyList());
+    synchronized (entries) {
+      if (entries.size() >= bufferSize) {
+        entries.removeFirst();
+      }
+      entries.addLast(entry);
+    }
+    String line =
+        String.format(
+            Locale.ROOT,
+            "%s statement id=%s elapsed_ms=%.2f rows=%d sql=\"%s\" params=%s plan=%s",
+            sampled ? "sampled" : "slow",
+            entry.getStatementId(),
+            entry.getElapsedMillis(),
+            entry.getRows(),
+            entry.getSql(),
+            entry.getParameters(),
+            entry.getPlan());
+    if (sampled) {
+      log.info(line);
+    } else {
+      log.warn(line);
+    }
+  }
+
+  private List<String> explain(String sql, List<SqlParameter> parameters) {
+    try {
+      return jdbcTemplate.query(
+          "explain query plan " + sql,
+          statement -> {
+            for (int i = 0; i < parameters.size(); i++) {
+              statement.setObject(i + 1, bindable(parameters.get(i).getValue()));
+            }
+          },
+          (rs, rowNum) -> rs.getString("detail"));
+    } catch (DataAccessException e) {
+      return Collections.singletonList("unavailable: " + e.getMostSpecificCause().getMessage());
+    }
+  }
+
+  // the plan does not depend on values, so anything sqlite-jdbc cannot bind goes as text
+  private static Object bindable(Object value) {
+    if (value == null
+        || value instanceof String
+        || value instanceof Number
+        || value instanceof Boolean) {
+      return value;
+    }
+    return value.toString();
+  }
+
+  static String describe(SqlParameter parameter) {
+    if (sensitive(parameter.getName())) {
+      return parameter.getName() + "=***";
+    }
+    String value = String.valueOf(parameter.getValue());
+    if (value.length() > MAX_VALUE_LENGTH) {
+      value = value.substring(0, MAX_VALUE_LENGTH) + "...";
+    }
+    return parameter.getName() + "=" + value;
+  }
+
+  private static boolean sensitive(String name) {
+    String lower = name.toLowerCase(Locale.ROOT);
+    return lower.contains("password") || lower.contains("email") || lower.contains("token");
+  }
+}
@@ -0,0 +1,21 @@
+package io.spring.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Name("io.spring.SqlStatement")
+@Label("SQL Statement")
+@Category({"RealWorld", "Database"})
+@StackTrace(false)
+@Setter
+public class SqlStatementEvent extends Event {
+  @Label("Statement Id")
+  private String statementId;
+
+  @Label("Rows")
+  private int rows;
+}
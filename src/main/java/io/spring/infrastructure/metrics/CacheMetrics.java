@@ -0,0 +1,96 @@
+package io.spring.infrastructure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.spring.application.StaleWhileRevalidateCache;
+import io.spring.graphql.CachingPreparsedDocumentProvider;
+import io.spring.graphql.PersistedQueryFilter;
+import io.spring.infrastructure.mybatis.cache.BoundedTtlCache;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CacheMetrics implements SmartInitializingSingleton {
+  private final MeterRegistry meterRegistry;
+  private final CachingPreparsedDocumentProvider documents;
+  private final PersistedQueryFilter persistedQueries;
+
+  public CacheMetrics(
+      MeterRegistry meterRegistry,
+      CachingPreparsedDocumentProvider documents,
+      PersistedQueryFilter persistedQueries) {
+    this.meterRegistry = meterRegistry;
+    this.documents = documents;
+    this.persistedQueries = persistedQueries;
+  }
+
+  // caches register themselves on construction, so bind once every singleton exists
+  @Override
+  public void afterSingletonsInstantiated() {
+    BoundedTtlCache.instances().forEach(this::bind);
+    StaleWhileRevalidateCache.instances().forEach(this::bind);
+    bind(
+        "graphqlDocument",
+        documents,
+        CachingPreparsedDocumentProvider::getSize,
+        CachingPreparsedDocumentProvider::getHits,
+        CachingPreparsedDocumentProvider::getMisses);
+    bind(
+        "persistedQuery",
+        persistedQueries,
+        PersistedQueryFilter::getSize,
+        PersistedQueryFilter::getHits,
+        PersistedQueryFilter::getMisses);
+  }
+
+  private void bind(BoundedTtlCache cache) {
+    Tags tags =
+        bind(
+            cache.getId(),
+            cache,
+            BoundedTtlCache::getSize,
+            BoundedTtlCache::getHits,
+            BoundedTtlCache::getMisses);
+    FunctionCounter.builder("cache.evictions", cache, BoundedTtlCache::getEvictions)
+        .tags(tags)
+        .register(meterRegistry);
+  }
+
+  private <T> Tags bind(
+      String name,
+      T cache,
+      ToDoubleFunction<T> size,
+      ToDoubleFunction<T> hits,
+      ToDoubleFunction<T> misses) {
+    Tags tags = Tags.of("cache", name);
+    Gauge.builder("cache.size", cache, size).tags(tags).register(meterRegistry);
+    FunctionCounter.builder("cache.gets", cache, hits)
+        .tags(tags.and("result", "hit"))
+        .register(meterRegistry);
+    FunctionCounter.builder("cache.gets", cache, misses)
+        .tags(tags.and("result", "miss"))
+        .register(meterRegistry);
+    return tags;
+  }
+
+  private void bind(StaleWhileRevalidateCache<?, ?> cache) {
+    Tags tags = Tags.of("cache", cache.getName());
+    FunctionCounter.builder("cache.stale.served", cache, StaleWhileRevalidateCache::getStaleServed)
+        .tags(tags)
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            "cache.refresh.failures", cache, StaleWhileRevalidateCache::getRefreshFailures)
+        .tags(tags)
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            "cache.refresh.dropped", cache, StaleWhileRevalidateCache::getRefreshesDropped)
+        .tags(tags)
+        .register(meterRegistry);
+    Gauge.builder("cache.load.waiters", cache, StaleWhileRevalidateCache::getLoadWaiters)
+        .tags(tags)
+        .register(meterRegistry);
+  }
+}
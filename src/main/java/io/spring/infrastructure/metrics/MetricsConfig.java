@@ -0,0 +1,18 @@
+package io.spring.infrastructure.metrics;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+  // operation names come from clients, so cap how many distinct ones become series
+  @Bean
+  public MeterFilter graphqlOperationCardinality(
+      @Value("${graphql.metrics.max-operations:100}") int maxOperations) {
+    return MeterFilter.maximumAllowableTags(
+        "graphql.operation", "operation", maxOperations, MeterFilter.deny());
+  }
+}
@@ -0,0 +1,24 @@
+package io.spring.infrastructure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.spring.infrastructure.repository.GroupCommitWriter;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class PersistenceMetrics implements SmartInitializingSingleton {
+  private MeterRegistry meterRegistry;
+  private GroupCommitWriter groupCommitWriter;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    FunctionCounter.builder(
+            "group.commit.batches", groupCommitWriter, GroupCommitWriter::getBatches)
+        .register(meterRegistry);
+    FunctionCounter.builder("group.commit.writes", groupCommitWriter, GroupCommitWriter::getWrites)
+        .register(meterRegistry);
+  }
+}
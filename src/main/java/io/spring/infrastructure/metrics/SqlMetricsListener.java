@@ -0,0 +1,43 @@
+package io.spring.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.spring.infrastructure.mybatis.SqlStatementExecution;
+import io.spring.infrastructure.mybatis.SqlStatementListener;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlMetricsListener implements SqlStatementListener {
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  public SqlMetricsListener(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void onStatement(SqlStatementExecution execution) {
+    timers
+        .computeIfAbsent(execution.getStatementId(), this::timer)
+        .record(execution.getElapsedNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  private Timer timer(String statementId) {
+    return Timer.builder("mybatis.statement")
+        .tag("statement", shortId(statementId))
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  // keeps the mapper and method, e.g. ArticleReadService.findArticlesWithCursor
+  static String shortId(String statementId) {
+    int method = statementId.lastIndexOf('.');
+    if (method <= 0) {
+      return statementId;
+    }
+    return statementId.substring(statementId.lastIndexOf('.', method - 1) + 1);
+  }
+}
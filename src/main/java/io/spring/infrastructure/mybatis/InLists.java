@@ -0,0 +1,24 @@
+package io.spring.infrastructure.mybatis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+public final class InLists {
+  public static final int MAX_CHUNK = 1024;
+
+  private InLists() {}
+
+  public static <T, R> List<R> chunked(
+      List<T> values, Function<List<T>, ? extends Collection<R>> query) {
+    if (values.size() <= MAX_CHUNK) {
+      return new ArrayList<>(query.apply(values));
+    }
+    List<R> result = new ArrayList<>();
+    for (int from = 0; from < values.size(); from += MAX_CHUNK) {
+      result.addAll(query.apply(values.subList(from, Math.min(values.size(), from + MAX_CHUNK))));
+    }
+    return result;
+  }
+}
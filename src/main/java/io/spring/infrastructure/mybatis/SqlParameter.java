@@ -0,0 +1,9 @@
+package io.spring.infrastructure.mybatis;
+
+import lombok.Value;
+
+@Value
+public class SqlParameter {
+  String name;
+  Object value;
+}
@@ -0,0 +1,19 @@
+package io.spring.infrastructure.mybatis;
+
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.Value;
+
+@Value
+public class SqlStatementExecution {
+  String statementId;
+  String sql;
+  long elapsedNanos;
+  int rows;
+  Supplier<List<SqlParameter>> parameters;
+
+  // resolving bind values walks the parameter object, so only listeners that need them pay
+  public List<SqlParameter> getParameters() {
+    return parameters.get();
+  }
+}
@@ -0,0 +1,159 @@
+package io.spring.infrastructure.mybatis;
+
+import io.spring.infrastructure.diagnostics.SqlStatementEvent;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+@Intercepts({
+  @Signature(
+      type = StatementHandler.class,
+      method = "query",
+      args = {Statement.class, ResultHandler.class}),
+  @Signature(
+      type = StatementHandler.class,
+      method = "update",
+      args = {Statement.class}),
+  @Signature(
+      type = StatementHandler.class,
+      method = "batch",
+      args = {Statement.class})
+})
+public class SqlStatementInterceptor implements Interceptor {
+  private static final String UNKNOWN = "unknown";
+
+  private final ObjectProvider<SqlStatementListener> listenerProvider;
+  private volatile List<SqlStatementListener> listeners;
+
+  public SqlStatementInterceptor(ObjectProvider<SqlStatementListener> listenerProvider) {
+    this.listenerProvider = listenerProvider;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    SqlStatementEvent event = new SqlStatementEvent();
+    event.begin();
+    long start = System.nanoTime();
+    Object result = null;
+    try {
+      result = invocation.proceed();
+      return result;
+    } finally {
+      long elapsedNanos = System.nanoTime() - start;
+      event.end();
+      StatementHandler handler = (StatementHandler) invocation.getTarget();
+      if (event.shouldCommit()) {
+        MappedStatement mappedStatement = mappedStatement(handler);
+        event.setStatementId(mappedStatement == null ? UNKNOWN : mappedStatement.getId());
+        event.setRows(rows(result));
+        event.commit();
+      }
+      publish(handler, elapsedNanos, result);
+    }
+  }
+
+  @Override
+  public Object plugin(Object target) {
+    return Plugin.wrap(target, this);
+  }
+
+  @Override
+  public void setProperties(Properties properties) {}
+
+  private void publish(StatementHandler handler, long elapsedNanos, Object result) {
+    List<SqlStatementListener> current = listeners();
+    if (current.isEmpty()) {
+      return;
+    }
+    MappedStatement mappedStatement = mappedStatement(handler);
+    SqlStatementExecution execution =
+        new SqlStatementExecution(
+            mappedStatement == null ? UNKNOWN : mappedStatement.getId(),
+            handler.getBoundSql().getSql(),
+            elapsedNanos,
+            rows(result),
+            () -> parameters(handler.getBoundSql(), mappedStatement));
+    current.forEach(listener -> listener.onStatement(execution));
+  }
+
+  // listeners may depend on mappers, so they are resolved after the session factory exists
+  private List<SqlStatementListener> listeners() {
+    List<SqlStatementListener> current = listeners;
+    if (current == null) {
+      current = listenerProvider.orderedStream().collect(Collectors.toList());
+      listeners = current;
+    }
+    return current;
+  }
+
+  private static MappedStatement mappedStatement(StatementHandler handler) {
+    ParameterHandler parameterHandler = handler.getParameterHandler();
+    if (!(parameterHandler instanceof DefaultParameterHandler)) {
+      return null;
+    }
+    MetaObject metaObject = SystemMetaObject.forObject(parameterHandler);
+    return (MappedStatement) metaObject.getValue("mappedStatement");
+  }
+
+  private static int rows(Object result) {
+    if (result instanceof List) {
+      return ((List<?>) result).size();
+    }
+    if (result instanceof Integer) {
+      return (Integer) result;
+    }
+    return -1;
+  }
+
+  // mirrors DefaultParameterHandler so the values line up with the ? placeholders
+  private static List<SqlParameter> parameters(BoundSql boundSql, MappedStatement mappedStatement) {
+    if (mappedStatement == null) {
+      return Collections.emptyList();
+    }
+    Configuration configuration = mappedStatement.getConfiguration();
+    TypeHandlerRegistry typeHandlerRegistry = configuration.getTypeHandlerRegistry();
+    Object parameterObject = boundSql.getParameterObject();
+    List<SqlParameter> values = new ArrayList<>();
+    for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+      if (mapping.getMode() == ParameterMode.OUT) {
+        continue;
+      }
+      String property = mapping.getProperty();
+      Object value;
+      if (boundSql.hasAdditionalParameter(property)) {
+        value = boundSql.getAdditionalParameter(property);
+      } else if (parameterObject == null) {
+        value = null;
+      } else if (typeHandlerRegistry.hasTypeHandler(parameterObject.getClass())) {
+        value = parameterObject;
+      } else {
+        value = configuration.newMetaObject(parameterObject).getValue(property);
+      }
+      values.add(new SqlParameter(property, value));
+    }
+    return values;
+  }
+}
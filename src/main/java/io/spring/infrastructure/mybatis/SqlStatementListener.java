@@ -0,0 +1,5 @@
+package io.spring.infrastructure.mybatis;
+
+public interface SqlStatementListener {
+  void onStatement(SqlStatementExecution execution);
+}
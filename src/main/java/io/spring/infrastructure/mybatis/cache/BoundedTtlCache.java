@@ -0,0 +1,186 @@
+package io.spring.infrastructure.mybatis.cache;
+
+import io.spring.infrastructure.diagnostics.CacheLookupEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheException;
+import org.apache.ibatis.io.Resources;
+
+public class BoundedTtlCache implements Cache {
+  private static final Map<String, BoundedTtlCache> INSTANCES = new ConcurrentHashMap<>();
+
+  private final String id;
+  private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private int size = 1024;
+  private long ttlMillis = 60_000;
+  private LongSupplier clock = System::currentTimeMillis;
+
+  public BoundedTtlCache(String id) {
+    this.id = id;
+    INSTANCES.put(id, this);
+  }
+
+  public static Collection<BoundedTtlCache> instances() {
+    return Collections.unmodifiableCollection(INSTANCES.values());
+  }
+
+  public void setSize(int size) {
+    this.size = size;
+  }
+
+  public void setTtlMillis(long ttlMillis) {
+    this.ttlMillis = ttlMillis;
+  }
+
+  public void setClock(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public void putObject(Object key, Object value) {
+    if (value == null) {
+      return;
+    }
+    Entry entry = new Entry(serialize(value), clock.getAsLong() + ttlMillis);
+    synchronized (entries) {
+      entries.put(key, entry);
+      Iterator<Object> eldest = entries.keySet().iterator();
+      while (entries.size() > size && eldest.hasNext()) {
+        eldest.next();
+        eldest.remove();
+        evictions.incrementAndGet();
+      }
+    }
+  }
+
+  @Override
+  public Object getObject(Object key) {
+    CacheLookupEvent event = new CacheLookupEvent();
+    event.begin();
+    Object value = lookup(key);
+    if (event.shouldCommit()) {
+      event.setCache(id);
+      event.setHit(value != null);
+      event.commit();
+    }
+    return value;
+  }
+
+  private Object lookup(Object key) {
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+      if (entry != null && entry.expiresAt <= clock.getAsLong()) {
+        entries.remove(key);
+        evictions.incrementAndGet();
+        entry = null;
+      }
+    }
+    if (entry == null) {
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    return deserialize(entry.value);
+  }
+
+  @Override
+  public Object removeObject(Object key) {
+    synchronized (entries) {
+      entries.remove(key);
+    }
+    return null;
+  }
+
+  @Override
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  @Override
+  public int getSize() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  public static Object copy(Object value) {
+    return value == null ? null : deserialize(serialize(value));
+  }
+
+  private static byte[] serialize(Object value) {
+    try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(value);
+      out.flush();
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      throw new CacheException("Error serializing object. Cause: " + e, e);
+    }
+  }
+
+  private static Object deserialize(byte[] value) {
+    try (ObjectInputStream in = new ResourcesObjectInputStream(new ByteArrayInputStream(value))) {
+      return in.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new CacheException("Error deserializing object. Cause: " + e, e);
+    }
+  }
+
+  private static class Entry {
+    private final byte[] value;
+    private final long expiresAt;
+
+    Entry(byte[] value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  private static class ResourcesObjectInputStream extends ObjectInputStream {
+    ResourcesObjectInputStream(InputStream in) throws IOException {
+      super(in);
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc) throws ClassNotFoundException {
+      return Resources.classForName(desc.getName());
+    }
+  }
+}
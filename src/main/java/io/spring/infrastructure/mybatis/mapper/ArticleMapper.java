@@ -4,6 +4,7 @@ import io.spring.core.article.Article;
 import io.spring.core.article.Tag;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface ArticleMapper {
@@ -19,6 +20,10 @@ public interface ArticleMapper {
 
   Article findBySlug(@Param("slug") String slug);
 
+  boolean existsBySlug(@Param("slug") String slug);
+
+  void findAllSlugs(ResultHandler<String> handler);
+
   void update(@Param("article") Article article);
 
   void delete(@Param("id") String id);
@@ -4,6 +4,7 @@ import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface UserMapper {
@@ -15,6 +16,14 @@ public interface UserMapper {
 
   User findById(@Param("id") String id);
 
+  boolean existsByUsername(@Param("username") String username);
+
+  boolean existsByEmail(@Param("email") String email);
+
+  void findAllUsernames(ResultHandler<String> handler);
+
+  void findAllEmails(ResultHandler<String> handler);
+
   void update(@Param("user") User user);
 
   FollowRelation findRelation(@Param("userId") String userId, @Param("targetId") String targetId);
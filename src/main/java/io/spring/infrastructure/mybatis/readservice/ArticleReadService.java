@@ -1,5 +1,6 @@
 package io.spring.infrastructure.mybatis.readservice;
 
+import io.spring.application.ArticleProjection;
 import io.spring.application.CursorPageParameter;
 import io.spring.application.Page;
 import io.spring.application.data.ArticleData;
@@ -9,9 +10,11 @@ import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface ArticleReadService {
-  ArticleData findById(@Param("id") String id);
+  ArticleData findById(
+      @Param("id") String id, @Param("projection") ArticleProjection projection);
 
-  ArticleData findBySlug(@Param("slug") String slug);
+  ArticleData findBySlug(
+      @Param("slug") String slug, @Param("projection") ArticleProjection projection);
 
   List<String> queryArticles(
       @Param("tag") String tag,
@@ -24,16 +27,34 @@ public interface ArticleReadService {
       @Param("author") String author,
       @Param("favoritedBy") String favoritedBy);
 
-  List<ArticleData> findArticles(@Param("articleIds") List<String> articleIds);
+  List<ArticleData> findArticles(
+      @Param("articleIds") List<String> articleIds,
+      @Param("projection") ArticleProjection projection);
 
   List<ArticleData> findArticlesOfAuthors(
-      @Param("authors") List<String> authors, @Param("page") Page page);
+      @Param("authors") List<String> authors,
+      @Param("page") Page page,
+      @Param("projection") ArticleProjection projection);
 
   List<ArticleData> findArticlesOfAuthorsWithCursor(
-      @Param("authors") List<String> authors, @Param("page") CursorPageParameter page);
+      @Param("authors") List<String> authors,
+      @Param("page") CursorPageParameter page,
+      @Param("projection") ArticleProjection projection);
 
   int countFeedSize(@Param("authors") List<String> authors);
 
+  List<ArticleData> findArticlesOfFollowed(
+      @Param("followerId") String followerId,
+      @Param("page") Page page,
+      @Param("projection") ArticleProjection projection);
+
+  List<ArticleData> findArticlesOfFollowedWithCursor(
+      @Param("followerId") String followerId,
+      @Param("page") CursorPageParameter page,
+      @Param("projection") ArticleProjection projection);
+
+  int countFollowedFeedSize(@Param("followerId") String followerId);
+
   List<String> findArticlesWithCursor(
       @Param("tag") String tag,
       @Param("author") String author,
@@ -15,4 +15,8 @@ public interface CommentReadService {
 
   List<CommentData> findByArticleIdWithCursor(
       @Param("articleId") String articleId, @Param("page") CursorPageParameter<DateTime> page);
+
+  List<CommentData> findByArticleIdsWithCursor(
+      @Param("articleIds") List<String> articleIds,
+      @Param("page") CursorPageParameter<DateTime> page);
 }
@@ -0,0 +1,17 @@
+package io.spring.infrastructure.repository;
+
+import lombok.Getter;
+import org.springframework.dao.DuplicateKeyException;
+
+@Getter
+@SuppressWarnings("serial")
+public class DuplicatedValueException extends DuplicateKeyException {
+  private final String field;
+  private final String reason;
+
+  public DuplicatedValueException(String field, String reason, Throwable cause) {
+    super(reason, cause);
+    this.field = field;
+    this.reason = reason;
+  }
+}
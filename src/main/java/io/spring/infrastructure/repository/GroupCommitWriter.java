@@ -0,0 +1,168 @@
+package io.spring.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class GroupCommitWriter {
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final long windowNanos;
+  private final int maxBatch;
+  private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+  private final AtomicLong batches = new AtomicLong();
+  private final AtomicLong writes = new AtomicLong();
+  private final Thread worker;
+  private volatile boolean running;
+
+  @Autowired
+  public GroupCommitWriter(
+      PlatformTransactionManager transactionManager,
+      @Value("${group-commit.enabled:true}") boolean enabled,
+      @Value("${group-commit.window-millis:5}") long windowMillis,
+      @Value("${group-commit.max-batch:64}") int maxBatch) {
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.enabled = enabled;
+    this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    this.maxBatch = maxBatch;
+    this.running = enabled;
+    if (enabled) {
+      this.worker = new Thread(this::drain, "group-commit");
+      this.worker.setDaemon(true);
+      this.worker.start();
+    } else {
+      this.worker = null;
+    }
+  }
+
+  public void write(Runnable operation) {
+    if (!running
+        || Thread.currentThread() == worker
+        || TransactionSynchronizationManager.isActualTransactionActive()) {
+      operation.run();
+      return;
+    }
+    PendingWrite write = new PendingWrite(operation);
+    queue.add(write);
+    if (!running && queue.remove(write)) {
+      commitAlone(write);
+    }
+    await(write);
+  }
+
+  public long getBatches() {
+    return batches.get();
+  }
+
+  public long getWrites() {
+    return writes.get();
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    if (worker == null) {
+      return;
+    }
+    running = false;
+    worker.interrupt();
+    worker.join(TimeUnit.SECONDS.toMillis(5));
+    PendingWrite write;
+    while ((write = queue.poll()) != null) {
+      commitAlone(write);
+    }
+  }
+
+  private void await(PendingWrite write) {
+    try {
+      write.result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for group commit", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private void drain() {
+    List<PendingWrite> batch = new ArrayList<>(maxBatch);
+    while (running) {
+      try {
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatch) {
+          long remaining = deadline - System.nanoTime();
+          PendingWrite next =
+              remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+      } catch (InterruptedException e) {
+        running = false;
+      }
+      if (!batch.isEmpty()) {
+        commit(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void commit(List<PendingWrite> batch) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> batch.forEach(write -> write.operation.run()));
+    } catch (Throwable e) {
+      // one failing write must not fail its neighbours, so retry each on its own
+      if (batch.size() == 1) {
+        batch.get(0).result.completeExceptionally(e);
+      } else {
+        batch.forEach(this::commitAlone);
+      }
+      return;
+    }
+    batches.incrementAndGet();
+    writes.addAndGet(batch.size());
+    batch.forEach(write -> write.result.complete(null));
+  }
+
+  private void commitAlone(PendingWrite write) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> write.operation.run());
+      batches.incrementAndGet();
+      writes.incrementAndGet();
+      write.result.complete(null);
+    } catch (Throwable e) {
+      write.result.completeExceptionally(e);
+    }
+  }
+
+  private static class PendingWrite {
+    private final Runnable operation;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    PendingWrite(Runnable operation) {
+      this.operation = operation;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package io.spring.infrastructure.repository;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+class MembershipFilter {
+  private static final int HASHES = 7;
+  private static final int BITS_PER_ENTRY = 10;
+
+  private final AtomicLongArray words;
+  private final int bitCount;
+  private final AtomicBoolean loading = new AtomicBoolean();
+  private volatile boolean ready;
+
+  MembershipFilter(int expectedEntries) {
+    long bits = Math.max(64, (long) expectedEntries * BITS_PER_ENTRY);
+    this.words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE / 64, (bits + 63) / 64));
+    this.bitCount = words.length() * 64;
+  }
+
+  void add(String value) {
+    if (value == null || value.isEmpty()) {
+      return;
+    }
+    long hash = hash(value);
+    for (int i = 1; i <= HASHES; i++) {
+      int index = index(hash, i);
+      words.accumulateAndGet(index >>> 6, 1L << index, (word, bit) -> word | bit);
+    }
+  }
+
+  boolean mightContain(String value) {
+    if (!ready) {
+      return true;
+    }
+    long hash = hash(value);
+    for (int i = 1; i <= HASHES; i++) {
+      int index = index(hash, i);
+      if ((words.get(index >>> 6) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  void loadIfNeeded(Consumer<Consumer<String>> loader) {
+    if (ready || !loading.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      loader.accept(this::add);
+      ready = true;
+    } catch (RuntimeException e) {
+      loading.set(false);
+    }
+  }
+
+  private int index(long hash, int i) {
+    int combined = (int) hash + i * (int) (hash >>> 32);
+    return (combined & Integer.MAX_VALUE) % bitCount;
+  }
+
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -1,26 +1,39 @@
 package io.spring.infrastructure.repository;
 
+import io.spring.core.article.ArticleChangedEvent;
 import io.spring.core.favorite.ArticleFavorite;
 import io.spring.core.favorite.ArticleFavoriteRepository;
 import io.spring.infrastructure.mybatis.mapper.ArticleFavoriteMapper;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class MyBatisArticleFavoriteRepository implements ArticleFavoriteRepository {
   private ArticleFavoriteMapper mapper;
+  private ApplicationEventPublisher eventPublisher;
+  private GroupCommitWriter groupCommitWriter;
 
   @Autowired
-  public MyBatisArticleFavoriteRepository(ArticleFavoriteMapper mapper) {
+  public MyBatisArticleFavoriteRepository(
+      ArticleFavoriteMapper mapper,
+      ApplicationEventPublisher eventPublisher,
+      GroupCommitWriter groupCommitWriter) {
     this.mapper = mapper;
+    this.eventPublisher = eventPublisher;
+    this.groupCommitWriter = groupCommitWriter;
   }
 
   @Override
   public void save(ArticleFavorite articleFavorite) {
-    if (mapper.find(articleFavorite.getArticleId(), articleFavorite.getUserId()) == null) {
-      mapper.insert(articleFavorite);
-    }
+    groupCommitWriter.write(
+        () -> {
+          if (mapper.find(articleFavorite.getArticleId(), articleFavorite.getUserId()) == null) {
+            mapper.insert(articleFavorite);
+            eventPublisher.publishEvent(new ArticleChangedEvent(articleFavorite.getArticleId()));
+          }
+        });
   }
 
   @Override
@@ -31,5 +44,6 @@ public class MyBatisArticleFavoriteRepository implements ArticleFavoriteReposito
   @Override
   public void remove(ArticleFavorite favorite) {
     mapper.delete(favorite);
+    eventPublisher.publishEvent(new ArticleChangedEvent(favorite.getArticleId()));
   }
 }
@@ -1,29 +1,46 @@
 package io.spring.infrastructure.repository;
 
 import io.spring.core.article.Article;
+import io.spring.core.article.ArticleChangedEvent;
 import io.spring.core.article.ArticleRepository;
 import io.spring.core.article.Tag;
+import io.spring.core.article.TagsChangedEvent;
 import io.spring.infrastructure.mybatis.mapper.ArticleMapper;
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class MyBatisArticleRepository implements ArticleRepository {
+  private static final int EXPECTED_ARTICLES = 1 << 20;
+
   private ArticleMapper articleMapper;
+  private ApplicationEventPublisher eventPublisher;
+  private final MembershipFilter slugs = new MembershipFilter(EXPECTED_ARTICLES);
 
-  public MyBatisArticleRepository(ArticleMapper articleMapper) {
+  public MyBatisArticleRepository(
+      ArticleMapper articleMapper, ApplicationEventPublisher eventPublisher) {
     this.articleMapper = articleMapper;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
   @Transactional
   public void save(Article article) {
-    if (articleMapper.findById(article.getId()) == null) {
-      createNew(article);
-    } else {
-      articleMapper.update(article);
+    slugs.add(article.getSlug());
+    try {
+      if (articleMapper.findById(article.getId()) == null) {
+        createNew(article);
+      } else {
+        articleMapper.update(article);
+      }
+    } catch (DataAccessException e) {
+      throw UniqueConstraints.translate(e);
     }
+    eventPublisher.publishEvent(new ArticleChangedEvent(article.getId()));
+    eventPublisher.publishEvent(new TagsChangedEvent(article.getId()));
   }
 
   private void createNew(Article article) {
@@ -50,8 +67,17 @@ public class MyBatisArticleRepository implements ArticleRepository {
     return Optional.ofNullable(articleMapper.findBySlug(slug));
   }
 
+  @Override
+  public boolean existsBySlug(String slug) {
+    slugs.loadIfNeeded(
+        add -> articleMapper.findAllSlugs(context -> add.accept(context.getResultObject())));
+    return slugs.mightContain(slug) && articleMapper.existsBySlug(slug);
+  }
+
   @Override
   public void remove(Article article) {
     articleMapper.delete(article.getId());
+    eventPublisher.publishEvent(new ArticleChangedEvent(article.getId()));
+    eventPublisher.publishEvent(new TagsChangedEvent(article.getId()));
   }
 }
@@ -1,24 +1,37 @@
 package io.spring.infrastructure.repository;
 
 import io.spring.core.comment.Comment;
+import io.spring.core.comment.CommentChangedEvent;
 import io.spring.core.comment.CommentRepository;
 import io.spring.infrastructure.mybatis.mapper.CommentMapper;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 public class MyBatisCommentRepository implements CommentRepository {
   private CommentMapper commentMapper;
+  private ApplicationEventPublisher eventPublisher;
+  private GroupCommitWriter groupCommitWriter;
 
   @Autowired
-  public MyBatisCommentRepository(CommentMapper commentMapper) {
+  public MyBatisCommentRepository(
+      CommentMapper commentMapper,
+      ApplicationEventPublisher eventPublisher,
+      GroupCommitWriter groupCommitWriter) {
     this.commentMapper = commentMapper;
+    this.eventPublisher = eventPublisher;
+    this.groupCommitWriter = groupCommitWriter;
   }
 
   @Override
   public void save(Comment comment) {
-    commentMapper.insert(comment);
+    groupCommitWriter.write(
+        () -> {
+          commentMapper.insert(comment);
+          eventPublisher.publishEvent(new CommentChangedEvent(comment.getArticleId()));
+        });
   }
 
   @Override
@@ -29,5 +42,6 @@ public class MyBatisCommentRepository implements CommentRepository {
   @Override
   public void remove(Comment comment) {
     commentMapper.delete(comment.getId());
+    eventPublisher.publishEvent(new CommentChangedEvent(comment.getArticleId()));
   }
 }
@@ -2,27 +2,48 @@ package io.spring.infrastructure.repository;
 
 import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
+import io.spring.core.user.UserChangedEvent;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.mybatis.mapper.UserMapper;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class MyBatisUserRepository implements UserRepository {
+  private static final int EXPECTED_USERS = 1 << 20;
+
   private final UserMapper userMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final GroupCommitWriter groupCommitWriter;
+  private final MembershipFilter usernames = new MembershipFilter(EXPECTED_USERS);
+  private final MembershipFilter emails = new MembershipFilter(EXPECTED_USERS);
 
   @Autowired
-  public MyBatisUserRepository(UserMapper userMapper) {
+  public MyBatisUserRepository(
+      UserMapper userMapper,
+      ApplicationEventPublisher eventPublisher,
+      GroupCommitWriter groupCommitWriter) {
     this.userMapper = userMapper;
+    this.eventPublisher = eventPublisher;
+    this.groupCommitWriter = groupCommitWriter;
   }
 
   @Override
   public void save(User user) {
-    if (userMapper.findById(user.getId()) == null) {
-      userMapper.insert(user);
-    } else {
-      userMapper.update(user);
+    usernames.add(user.getUsername());
+    emails.add(user.getEmail());
+    try {
+      if (userMapper.findById(user.getId()) == null) {
+        userMapper.insert(user);
+      } else {
+        userMapper.update(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+      }
+    } catch (DataAccessException e) {
+      throw UniqueConstraints.translate(e);
     }
   }
 
@@ -41,11 +62,28 @@ public class MyBatisUserRepository implements UserRepository {
     return Optional.ofNullable(userMapper.findByEmail(email));
   }
 
+  @Override
+  public boolean existsByUsername(String username) {
+    usernames.loadIfNeeded(
+        add -> userMapper.findAllUsernames(context -> add.accept(context.getResultObject())));
+    return usernames.mightContain(username) && userMapper.existsByUsername(username);
+  }
+
+  @Override
+  public boolean existsByEmail(String email) {
+    emails.loadIfNeeded(
+        add -> userMapper.findAllEmails(context -> add.accept(context.getResultObject())));
+    return emails.mightContain(email) && userMapper.existsByEmail(email);
+  }
+
   @Override
   public void saveRelation(FollowRelation followRelation) {
-    if (!findRelation(followRelation.getUserId(), followRelation.getTargetId()).isPresent()) {
-      userMapper.saveRelation(followRelation);
-    }
+    groupCommitWriter.write(
+        () -> {
+          if (!findRelation(followRelation.getUserId(), followRelation.getTargetId()).isPresent()) {
+            userMapper.saveRelation(followRelation);
+          }
+        });
   }
 
   @Override
@@ -0,0 +1,30 @@
+package io.spring.infrastructure.repository;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.dao.DataAccessException;
+
+final class UniqueConstraints {
+  private static final Pattern VIOLATION = Pattern.compile("UNIQUE constraint failed: ([\\w.]+)");
+
+  private UniqueConstraints() {}
+
+  // the membership filters only know this instance's inserts, so a row written elsewhere is
+  // caught by the schema and reported like the validator would have
+  static DataAccessException translate(DataAccessException e) {
+    Matcher matcher = VIOLATION.matcher(String.valueOf(e.getMostSpecificCause().getMessage()));
+    if (!matcher.find()) {
+      return e;
+    }
+    switch (matcher.group(1)) {
+      case "users.username":
+        return new DuplicatedValueException("username", "duplicated username", e);
+      case "users.email":
+        return new DuplicatedValueException("email", "duplicated email", e);
+      case "articles.slug":
+        return new DuplicatedValueException("title", "article name exists", e);
+      default:
+        return e;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package io.spring.infrastructure.traffic;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CapturedRequest {
+  private long timestamp;
+  private String method;
+  private String path;
+  private String route;
+  private String query;
+  private String principal;
+  private String operationName;
+  private String document;
+  private String persistedQueryHash;
+  private Map<String, Object> variables;
+  private int status;
+  private long elapsedMillis;
+
+  @JsonIgnore
+  public boolean isWrite() {
+    if (document != null) {
+      return document.trim().startsWith("mutation");
+    }
+    return !"GET".equals(method) && !"/graphql".equals(path);
+  }
+}
@@ -0,0 +1,87 @@
+package io.spring.infrastructure.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class TrafficLogWriter implements Closeable {
+  private static final ObjectWriter WRITER = new ObjectMapper().writerFor(CapturedRequest.class);
+
+  private final BufferedWriter out;
+  private final AtomicLong dropped = new AtomicLong();
+  private final ThreadPoolExecutor appender;
+
+  public TrafficLogWriter(Path file, int queueSize) throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    this.out =
+        Files.newBufferedWriter(
+            file,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND,
+            StandardOpenOption.WRITE);
+    // one JSON object per line, written off the request thread; a full queue drops captures
+    this.appender =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            runnable -> {
+              Thread thread = new Thread(runnable, "traffic-capture");
+              thread.setDaemon(true);
+              return thread;
+            },
+            (runnable, executor) -> dropped.incrementAndGet());
+  }
+
+  public void append(CapturedRequest request) {
+    appender.execute(() -> write(request));
+  }
+
+  public long getDropped() {
+    return dropped.get();
+  }
+
+  @Override
+  public void close() throws IOException {
+    appender.shutdown();
+    try {
+      appender.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    out.close();
+    if (dropped.get() > 0) {
+      log.warn("traffic capture dropped {} requests", dropped.get());
+    }
+  }
+
+  private void write(CapturedRequest request) {
+    try {
+      out.write(WRITER.writeValueAsString(request));
+      out.newLine();
+      if (appender.getQueue().isEmpty()) {
+        out.flush();
+      }
+    } catch (IOException e) {
+      log.warn("could not append captured request", e);
+    }
+  }
+}
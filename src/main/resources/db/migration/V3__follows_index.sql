@@ -0,0 +1,2 @@
+-- Feed queries semi-join follows by follower for users following many authors
+create index follows_user_follow on follows (user_id, follow_id);
@@ -0,0 +1,112 @@
+package io.spring.infrastructure.traffic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ReplayReport {
+  static final String TOTAL = "total";
+
+  private final Map<String, Samples> groups = new TreeMap<>();
+  private final Samples lag = new Samples();
+
+  public synchronized void record(String group, long elapsedNanos, Outcome outcome) {
+    groups.computeIfAbsent(group, key -> new Samples()).add(elapsedNanos, outcome);
+    groups.computeIfAbsent(TOTAL, key -> new Samples()).add(elapsedNanos, outcome);
+  }
+
+  public synchronized void recordLag(long lagNanos) {
+    lag.add(lagNanos, Outcome.OK);
+  }
+
+  public synchronized List<String> lines(long wallNanos) {
+    List<String> lines = new ArrayList<>();
+    lines.add(
+        String.format(
+            Locale.ROOT,
+            "%-40s %8s %8s %8s %9s %9s %9s %9s",
+            "group",
+            "requests",
+            "4xx",
+            "errors",
+            "p50_ms",
+            "p90_ms",
+            "p99_ms",
+            "max_ms"));
+    groups.forEach((group, samples) -> lines.add(samples.describe(group)));
+    Samples total = groups.get(TOTAL);
+    if (total != null && wallNanos > 0) {
+      lines.add(
+          String.format(
+              Locale.ROOT,
+              "throughput %.1f req/s, error rate %.2f%%, schedule lag p99 %.1f ms",
+              total.count * 1e9 / wallNanos,
+              total.errorRate() * 100,
+              lag.percentile(0.99) / 1e6));
+    }
+    return lines;
+  }
+
+  synchronized Samples group(String group) {
+    return groups.get(group);
+  }
+
+  public enum Outcome {
+    OK,
+    CLIENT_ERROR,
+    ERROR
+  }
+
+  static class Samples {
+    private long[] nanos = new long[1024];
+    private int count;
+    private int clientErrors;
+    private int errors;
+
+    void add(long elapsedNanos, Outcome outcome) {
+      if (count == nanos.length) {
+        nanos = Arrays.copyOf(nanos, count * 2);
+      }
+      nanos[count++] = elapsedNanos;
+      if (outcome == Outcome.CLIENT_ERROR) {
+        clientErrors++;
+      } else if (outcome == Outcome.ERROR) {
+        errors++;
+      }
+    }
+
+    int getCount() {
+      return count;
+    }
+
+    double errorRate() {
+      return count == 0 ? 0 : (double) errors / count;
+    }
+
+    long percentile(double percentile) {
+      if (count == 0) {
+        return 0;
+      }
+      long[] sorted = Arrays.copyOf(nanos, count);
+      Arrays.sort(sorted);
+      return sorted[(int) Math.ceil(percentile * count) - 1];
+    }
+
+    String describe(String group) {
+      return String.format(
+          Locale.ROOT,
+          "%-40s %8d %8d %8d %9.1f %9.1f %9.1f %9.1f",
+          group,
+          count,
+          clientErrors,
+          errors,
+          percentile(0.50) / 1e6,
+          percentile(0.90) / 1e6,
+          percentile(0.99) / 1e6,
+          percentile(1.0) / 1e6);
+    }
+  }
+}
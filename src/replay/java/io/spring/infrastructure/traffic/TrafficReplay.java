@@ -0,0 +1,242 @@
+package io.spring.infrastructure.traffic;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// speed scales the captured inter-arrival times; 0 replays as fast as concurrency allows
+public class TrafficReplay {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final ObjectReader READER =
+      MAPPER
+          .readerFor(CapturedRequest.class)
+          .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+  private final HttpClient client;
+  private final String target;
+  private final double speed;
+  private final int concurrency;
+  private final List<String> tokens;
+  private final Map<String, String> principalTokens = new HashMap<>();
+
+  public TrafficReplay(String target, double speed, int concurrency, List<String> tokens) {
+    this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    this.target = target.endsWith("/") ? target.substring(0, target.length() - 1) : target;
+    this.speed = speed;
+    this.concurrency = concurrency;
+    this.tokens = tokens;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = options(args);
+    Path file = Paths.get(options.getOrDefault("replay.file", "traffic.jsonl"));
+    String tokenFile = options.get("replay.tokens");
+    List<String> tokens =
+        tokenFile == null
+            ? Collections.emptyList()
+            : Files.readAllLines(Paths.get(tokenFile)).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.toList());
+    List<CapturedRequest> requests =
+        load(file, Boolean.parseBoolean(options.getOrDefault("replay.include-writes", "false")));
+    TrafficReplay replay =
+        new TrafficReplay(
+            options.getOrDefault("replay.target", "http://localhost:8080"),
+            Double.parseDouble(options.getOrDefault("replay.speed", "1")),
+            Integer.parseInt(options.getOrDefault("replay.concurrency", "8")),
+            tokens);
+    System.out.println("Replaying " + requests.size() + " requests from " + file.toAbsolutePath());
+    long start = System.nanoTime();
+    ReplayReport report = replay.run(requests);
+    report.lines(System.nanoTime() - start).forEach(System.out::println);
+  }
+
+  // captures are append-only, so a persisted query hash may only carry its document on first use
+  static List<CapturedRequest> load(Path file, boolean includeWrites) throws IOException {
+    List<CapturedRequest> requests = new ArrayList<>();
+    Map<String, String> documents = new HashMap<>();
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.trim().isEmpty()) {
+          continue;
+        }
+        CapturedRequest request = READER.readValue(line);
+        if (request.getPersistedQueryHash() != null && request.getDocument() != null) {
+          documents.put(request.getPersistedQueryHash(), request.getDocument());
+        }
+        requests.add(request);
+      }
+    }
+    requests.forEach(
+        request -> {
+          if (request.getDocument() == null && request.getPersistedQueryHash() != null) {
+            request.setDocument(documents.get(request.getPersistedQueryHash()));
+          }
+        });
+    requests.sort((a, b) -> Long.compare(a.getTimestamp(), b.getTimestamp()));
+    return requests.stream()
+        .filter(request -> includeWrites || !request.isWrite())
+        .collect(Collectors.toList());
+  }
+
+  public ReplayReport run(List<CapturedRequest> requests) throws InterruptedException {
+    ReplayReport report = new ReplayReport();
+    if (requests.isEmpty()) {
+      return report;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+    Semaphore inFlight = new Semaphore(concurrency);
+    long first = requests.get(0).getTimestamp();
+    long start = System.nanoTime();
+    try {
+      for (CapturedRequest request : requests) {
+        long offset = TimeUnit.MILLISECONDS.toNanos(request.getTimestamp() - first);
+        long due = speed > 0 ? start + (long) (offset / speed) : System.nanoTime();
+        long wait = due - System.nanoTime();
+        if (wait > 0) {
+          TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        inFlight.acquire();
+        report.recordLag(Math.max(0, System.nanoTime() - due));
+        HttpRequest httpRequest = toHttpRequest(request);
+        executor.execute(
+            () -> {
+              try {
+                send(httpRequest, group(request), graphql(request), report);
+              } finally {
+                inFlight.release();
+              }
+            });
+      }
+      inFlight.acquire(concurrency);
+    } finally {
+      executor.shutdownNow();
+    }
+    return report;
+  }
+
+  HttpRequest toHttpRequest(CapturedRequest request) {
+    String uri = target + request.getPath();
+    if (request.getQuery() != null) {
+      uri += "?" + request.getQuery();
+    }
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder(URI.create(uri)).timeout(Duration.ofSeconds(30));
+    String token = token(request.getPrincipal());
+    if (token != null) {
+      builder.header("Authorization", "Token " + token);
+    }
+    if (graphql(request)) {
+      builder.header("Content-Type", "application/json");
+      return builder.POST(HttpRequest.BodyPublishers.ofString(graphqlBody(request))).build();
+    }
+    return builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody()).build();
+  }
+
+  static String group(CapturedRequest request) {
+    if (graphql(request)) {
+      String operation = request.getOperationName();
+      return "graphql " + (operation == null ? "anonymous" : operation);
+    }
+    String route = request.getRoute() != null ? request.getRoute() : request.getPath();
+    return request.getMethod() + " " + route;
+  }
+
+  private static boolean graphql(CapturedRequest request) {
+    return request.getDocument() != null || request.getPersistedQueryHash() != null;
+  }
+
+  // each anonymized principal keeps the same token for the whole replay
+  private synchronized String token(String principal) {
+    if (principal == null || tokens.isEmpty()) {
+      return null;
+    }
+    return principalTokens.computeIfAbsent(
+        principal, key -> tokens.get(principalTokens.size() % tokens.size()));
+  }
+
+  private void send(HttpRequest request, String group, boolean graphql, ReplayReport report) {
+    long start = System.nanoTime();
+    try {
+      HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+      long elapsed = System.nanoTime() - start;
+      report.record(group, elapsed, outcome(response.statusCode(), graphql, response.body()));
+    } catch (IOException e) {
+      report.record(group, System.nanoTime() - start, ReplayReport.Outcome.ERROR);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  static ReplayReport.Outcome outcome(int status, boolean graphql, String body) {
+    if (status >= 500) {
+      return ReplayReport.Outcome.ERROR;
+    }
+    if (status >= 400) {
+      return ReplayReport.Outcome.CLIENT_ERROR;
+    }
+    if (graphql && body != null && body.contains("\"errors\"")) {
+      return ReplayReport.Outcome.ERROR;
+    }
+    return ReplayReport.Outcome.OK;
+  }
+
+  private static String graphqlBody(CapturedRequest request) {
+    Map<String, Object> body = new LinkedHashMap<>();
+    if (request.getDocument() != null) {
+      body.put("query", request.getDocument());
+    } else {
+      Map<String, Object> persistedQuery = new LinkedHashMap<>();
+      persistedQuery.put("version", 1);
+      persistedQuery.put("sha256Hash", request.getPersistedQueryHash());
+      body.put("extensions", Collections.singletonMap("persistedQuery", persistedQuery));
+    }
+    if (request.getOperationName() != null) {
+      body.put("operationName", request.getOperationName());
+    }
+    if (request.getVariables() != null) {
+      body.put("variables", request.getVariables());
+    }
+    try {
+      return MAPPER.writeValueAsString(body);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Map<String, String> options(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      String option = arg.startsWith("--") ? arg.substring(2) : arg;
+      int separator = option.indexOf('=');
+      if (separator > 0) {
+        options.put(option.substring(0, separator), option.substring(separator + 1));
+      }
+    }
+    return options;
+  }
+}
@@ -0,0 +1,221 @@
+package io.spring;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import io.restassured.module.mockmvc.response.ValidatableMockMvcResponse;
+import io.spring.core.article.Article;
+import io.spring.core.article.ArticleRepository;
+import io.spring.core.comment.Comment;
+import io.spring.core.comment.CommentRepository;
+import io.spring.core.favorite.ArticleFavorite;
+import io.spring.core.favorite.ArticleFavoriteRepository;
+import io.spring.core.service.JwtService;
+import io.spring.core.user.FollowRelation;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.infrastructure.mybatis.QueryBudget;
+import io.spring.infrastructure.mybatis.SqlStatementCounter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+// every cache is off so that per-item queries can't hide behind entries warmed by an earlier run
+@SpringBootTest(
+    properties = {
+      "mybatis.configuration.cache-enabled=false",
+      "article.cache.size=0",
+      "profile.cache.size=0",
+      "tags.cache.size=0",
+      "sqlite.wal.enabled=false"
+    })
+@AutoConfigureMockMvc
+@Import(SqlStatementCounter.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EndpointQueryBudgetTest {
+  private static final int AUTHORS = 110;
+
+  @Autowired private MockMvc mvc;
+  @Autowired private UserRepository userRepository;
+  @Autowired private ArticleRepository articleRepository;
+  @Autowired private CommentRepository commentRepository;
+  @Autowired private ArticleFavoriteRepository articleFavoriteRepository;
+  @Autowired private JwtService jwtService;
+
+  private List<User> authors;
+  private String token;
+
+  @DynamicPropertySource
+  static void database(DynamicPropertyRegistry registry) throws IOException {
+    Path file = Files.createTempFile("query-budget", ".db");
+    file.toFile().deleteOnExit();
+    registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + file);
+  }
+
+  @BeforeAll
+  public void seed() {
+    User viewer = new User("viewer@budget.io", "budget-viewer", "123", "", "");
+    userRepository.save(viewer);
+    authors = new ArrayList<>();
+    List<Article> articles = new ArrayList<>();
+    for (int i = 0; i < AUTHORS; i++) {
+      User author = new User("author" + i + "@budget.io", "budget-author-" + i, "123", "", "");
+      userRepository.save(author);
+      authors.add(author);
+      if (i % 2 == 0) {
+        userRepository.saveRelation(new FollowRelation(viewer.getId(), author.getId()));
+      }
+      Article article =
+          new Article(
+              "budget article " + i,
+              "desc",
+              "body",
+              Arrays.asList("budget", "tag-" + i % 10),
+              author.getId());
+      articleRepository.save(article);
+      articles.add(article);
+      if (i % 3 == 0) {
+        articleFavoriteRepository.save(new ArticleFavorite(article.getId(), viewer.getId()));
+      }
+    }
+    for (int i = 0; i < AUTHORS; i += 2) {
+      articleRepository.save(
+          new Article(
+              "budget feed article " + i,
+              "desc",
+              "body",
+              Arrays.asList("budget"),
+              authors.get(i).getId()));
+    }
+    for (int tags : new int[] {20, 100}) {
+      articleRepository.save(
+          new Article(
+              "budget tags " + tags,
+              "desc",
+              "body",
+              IntStream.range(0, tags).mapToObj(i -> "budget-" + i).collect(Collectors.toList()),
+              authors.get(0).getId()));
+      Article commented = articles.get(tags);
+      for (int i = 0; i < tags; i++) {
+        commentRepository.save(
+            new Comment("comment " + i, authors.get(i).getId(), commented.getId()));
+      }
+    }
+    token = jwtService.toToken(viewer);
+    RestAssuredMockMvc.mockMvc(mvc);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {20, 100})
+  @QueryBudget(8)
+  public void should_list_articles_within_budget(int limit) {
+    given()
+        .header("Authorization", "Token " + token)
+        .when()
+        .get("/articles?limit={limit}", limit)
+        .then()
+        .statusCode(200)
+        .body("articles.size()", equalTo(limit));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {20, 100})
+  @QueryBudget(8)
+  public void should_list_feed_within_budget(int limit) {
+    given()
+        .header("Authorization", "Token " + token)
+        .when()
+        .get("/articles/feed?limit={limit}", limit)
+        .then()
+        .statusCode(200)
+        .body("articles.size()", equalTo(limit));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {20, 100})
+  @QueryBudget(6)
+  public void should_get_article_within_budget(int tags) {
+    given()
+        .header("Authorization", "Token " + token)
+        .when()
+        .get("/articles/{slug}", Article.toSlug("budget tags " + tags))
+        .then()
+        .statusCode(200)
+        .body("article.tagList.size()", equalTo(tags));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {20, 100})
+  @QueryBudget(5)
+  public void should_list_comments_within_budget(int comments) {
+    given()
+        .header("Authorization", "Token " + token)
+        .when()
+        .get("/articles/{slug}/comments", Article.toSlug("budget article " + comments))
+        .then()
+        .statusCode(200)
+        .body("comments.size()", equalTo(comments));
+  }
+
+  @Test
+  @QueryBudget(4)
+  public void should_get_profile_within_budget() {
+    given()
+        .header("Authorization", "Token " + token)
+        .when()
+        .get("/profiles/{username}", authors.get(0).getUsername())
+        .then()
+        .statusCode(200)
+        .body("profile.following", equalTo(true));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {20, 100})
+  @QueryBudget(10)
+  public void should_query_graphql_articles_within_budget(int first) {
+    graphql("articles(first: " + first + ")").body("data.articles.edges.size()", equalTo(first));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {20, 100})
+  @QueryBudget(10)
+  public void should_query_graphql_feed_within_budget(int first) {
+    graphql("feed(first: " + first + ")").body("data.feed.edges.size()", equalTo(first));
+  }
+
+  private ValidatableMockMvcResponse graphql(String connection) {
+    String query =
+        "{ "
+            + connection
+            + " { edges { node { slug favorited favoritesCount author { username following }"
+            + " comments(first: 5) { edges { node { body author { username following } } } }"
+            + " } } } }";
+    return given()
+        .header("Authorization", "Token " + token)
+        .contentType(MediaType.APPLICATION_JSON_VALUE)
+        .body("{\"query\": \"" + query + "\"}")
+        .when()
+        .post("/graphql")
+        .then()
+        .statusCode(200);
+  }
+}
@@ -0,0 +1,85 @@
+package io.spring.api;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import io.spring.JacksonCustomizations;
+import io.spring.api.security.WebSecurityConfig;
+import io.spring.application.ProfileQueryService;
+import io.spring.core.user.User;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = ProfileApi.class, properties = "admin.user-ids=admin-id")
+@Import({WebSecurityConfig.class, JacksonCustomizations.class})
+public class AdminEndpointSecurityTest extends TestWithCurrentUser {
+  @Autowired private MockMvc mvc;
+
+  @MockBean private ProfileQueryService profileQueryService;
+
+  private String adminToken;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    super.setUp();
+    RestAssuredMockMvc.mockMvc(mvc);
+    User admin = new User("admin@test.com", "admin", "123", "", "");
+    ReflectionTestUtils.setField(admin, "id", "admin-id");
+    when(userRepository.findById(eq(admin.getId()))).thenReturn(Optional.of(admin));
+    adminToken = "admin-token";
+    when(jwtService.getSubFromToken(eq(adminToken))).thenReturn(Optional.of(admin.getId()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "/actuator/jfr",
+        "/actuator/jfr/realworld-1",
+        "/actuator/slowqueries",
+        "/actuator/prometheus"
+      })
+  public void should_reject_admin_endpoints_for_anonymous_and_regular_users(String path) {
+    given().when().get(path).then().statusCode(401);
+    given().header("Authorization", "Token " + token).when().get(path).then().statusCode(403);
+    given().header("Authorization", "Token " + token).when().post(path).then().statusCode(403);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"/actuator/jfr", "/actuator/slowqueries"})
+  public void should_not_grant_admin_by_username(String path) {
+    User impostor = new User("impostor@test.com", "admin", "123", "", "");
+    when(userRepository.findById(eq(impostor.getId()))).thenReturn(Optional.of(impostor));
+    when(jwtService.getSubFromToken(eq("impostor-token")))
+        .thenReturn(Optional.of(impostor.getId()));
+
+    given()
+        .header("Authorization", "Token impostor-token")
+        .when()
+        .get(path)
+        .then()
+        .statusCode(403);
+  }
+
+  // the actuator endpoints themselves are not part of this slice, so passing the gate is a 404
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "/actuator/jfr",
+        "/actuator/jfr/realworld-1",
+        "/actuator/slowqueries",
+        "/actuator/prometheus"
+      })
+  public void should_let_admin_users_through(String path) {
+    given().header("Authorization", "Token " + adminToken).when().get(path).then().statusCode(404);
+  }
+}
@@ -1,6 +1,7 @@
 package io.spring.api;
 
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -77,6 +78,64 @@ public class ArticleApiTest extends TestWithCurrentUser {
         .body("article.createdAt", equalTo(ISODateTimeFormat.dateTime().withZoneUTC().print(time)));
   }
 
+  @Test
+  public void should_return_304_if_article_not_modified() throws Exception {
+    String slug = "test-new-article";
+    Article article =
+        new Article("Test New Article", "Desc", "Body", Arrays.asList("java"), user.getId());
+    ArticleData articleData = TestHelper.getArticleDataFromArticleAndUser(article, user);
+
+    when(articleQueryService.findBySlug(eq(slug), eq(null))).thenReturn(Optional.of(articleData));
+
+    String etag =
+        RestAssuredMockMvc.when()
+            .get("/articles/{slug}", slug)
+            .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+
+    given()
+        .header("If-None-Match", etag)
+        .when()
+        .get("/articles/{slug}", slug)
+        .then()
+        .statusCode(304);
+  }
+
+  @Test
+  public void should_revalidate_article_when_favorites_change() throws Exception {
+    String slug = "test-new-article";
+    Article article =
+        new Article("Test New Article", "Desc", "Body", Arrays.asList("java"), user.getId());
+    ArticleData articleData = TestHelper.getArticleDataFromArticleAndUser(article, user);
+
+    when(articleQueryService.findBySlug(eq(slug), eq(null))).thenReturn(Optional.of(articleData));
+
+    String etag =
+        RestAssuredMockMvc.when()
+            .get("/articles/{slug}", slug)
+            .then()
+            .statusCode(200)
+            .header("Last-Modified", nullValue())
+            .extract()
+            .header("ETag");
+    articleData.setFavoritesCount(articleData.getFavoritesCount() + 1);
+
+    given()
+        .header("If-None-Match", etag)
+        .when()
+        .get("/articles/{slug}", slug)
+        .then()
+        .statusCode(200);
+    given()
+        .header("If-Modified-Since", "Fri, 01 Jan 2100 00:00:00 GMT")
+        .when()
+        .get("/articles/{slug}", slug)
+        .then()
+        .statusCode(200);
+  }
+
   @Test
   public void should_404_if_article_not_found() throws Exception {
     when(articleQueryService.findBySlug(anyString(), any())).thenReturn(Optional.empty());
@@ -16,6 +16,7 @@ import io.spring.application.article.ArticleCommandService;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.ProfileData;
 import io.spring.core.article.Article;
+import io.spring.core.article.ArticleRepository;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +39,8 @@ public class ArticlesApiTest extends TestWithCurrentUser {
 
   @MockBean private ArticleCommandService articleCommandService;
 
+  @MockBean private ArticleRepository articleRepository;
+
   @Override
   @BeforeEach
   public void setUp() throws Exception {
@@ -71,8 +74,7 @@ public class ArticlesApiTest extends TestWithCurrentUser {
     when(articleCommandService.createArticle(any(), any()))
         .thenReturn(new Article(title, description, body, tagList, user.getId()));
 
-    when(articleQueryService.findBySlug(eq(Article.toSlug(title)), any()))
-        .thenReturn(Optional.empty());
+    when(articleRepository.existsBySlug(eq(Article.toSlug(title)))).thenReturn(false);
 
     when(articleQueryService.findById(any(), any())).thenReturn(Optional.of(articleData));
 
@@ -137,8 +139,7 @@ public class ArticlesApiTest extends TestWithCurrentUser {
             asList(tagList),
             new ProfileData("userid", user.getUsername(), user.getBio(), user.getImage(), false));
 
-    when(articleQueryService.findBySlug(eq(Article.toSlug(title)), any()))
-        .thenReturn(Optional.of(articleData));
+    when(articleRepository.existsBySlug(eq(Article.toSlug(title)))).thenReturn(true);
 
     when(articleQueryService.findById(any(), any())).thenReturn(Optional.of(articleData));
 
@@ -128,6 +128,35 @@ public class CommentsApiTest extends TestWithCurrentUser {
         .body("comments[0].id", equalTo(commentData.getId()));
   }
 
+  @Test
+  public void should_return_304_if_comments_not_modified() throws Exception {
+    when(commentQueryService.findByArticleId(anyString(), eq(null)))
+        .thenReturn(Arrays.asList(commentData));
+    String etag =
+        RestAssuredMockMvc.when()
+            .get("/articles/{slug}/comments", article.getSlug())
+            .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+
+    given()
+        .header("If-None-Match", etag)
+        .when()
+        .get("/articles/{slug}/comments", article.getSlug())
+        .then()
+        .statusCode(304);
+
+    commentData.getProfileData().setFollowing(true);
+    given()
+        .header("If-None-Match", etag)
+        .when()
+        .get("/articles/{slug}/comments", article.getSlug())
+        .then()
+        .statusCode(200)
+        .body("comments[0].author.following", equalTo(true));
+  }
+
   @Test
   public void should_delete_comment_success() throws Exception {
     when(commentRepository.findById(eq(article.getId()), eq(comment.getId())))
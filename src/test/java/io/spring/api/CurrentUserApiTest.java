@@ -11,7 +11,6 @@ import io.spring.JacksonCustomizations;
 import io.spring.api.security.WebSecurityConfig;
 import io.spring.application.UserQueryService;
 import io.spring.application.user.UserService;
-import io.spring.core.user.User;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -103,8 +102,8 @@ public class CurrentUserApiTest extends TestWithCurrentUser {
           }
         };
 
-    when(userRepository.findByUsername(eq(newUsername))).thenReturn(Optional.empty());
-    when(userRepository.findByEmail(eq(newEmail))).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername(eq(newUsername))).thenReturn(false);
+    when(userRepository.existsByEmail(eq(newEmail))).thenReturn(false);
 
     when(userQueryService.findById(eq(user.getId()))).thenReturn(Optional.of(userData));
 
@@ -126,9 +125,8 @@ public class CurrentUserApiTest extends TestWithCurrentUser {
 
     Map<String, Object> param = prepareUpdateParam(newEmail, newBio, newUsername);
 
-    when(userRepository.findByEmail(eq(newEmail)))
-        .thenReturn(Optional.of(new User(newEmail, "username", "123", "", "")));
-    when(userRepository.findByUsername(eq(newUsername))).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail(eq(newEmail))).thenReturn(true);
+    when(userRepository.existsByUsername(eq(newUsername))).thenReturn(false);
 
     when(userQueryService.findById(eq(user.getId()))).thenReturn(Optional.of(userData));
 
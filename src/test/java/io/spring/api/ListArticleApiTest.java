@@ -3,15 +3,19 @@ package io.spring.api;
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
 import static io.spring.TestHelper.articleDataFixture;
 import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import io.spring.JacksonCustomizations;
 import io.spring.api.security.WebSecurityConfig;
+import io.spring.application.ArticleProjection;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.Page;
 import io.spring.application.article.ArticleCommandService;
+import io.spring.application.data.ArticleData;
 import io.spring.application.data.ArticleDataList;
 import io.spring.core.article.ArticleRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,11 +50,39 @@ public class ListArticleApiTest extends TestWithCurrentUser {
         new ArticleDataList(
             asList(articleDataFixture("1", user), articleDataFixture("2", user)), 2);
     when(articleQueryService.findRecentArticles(
-            eq(null), eq(null), eq(null), eq(new Page(0, 20)), eq(null)))
+            eq(null),
+            eq(null),
+            eq(null),
+            eq(new Page(0, 20)),
+            eq(null),
+            eq(ArticleProjection.FULL)))
         .thenReturn(articleDataList);
     RestAssuredMockMvc.when().get("/articles").prettyPeek().then().statusCode(200);
   }
 
+  @Test
+  public void should_get_article_list_without_body_in_summary_view() throws Exception {
+    ArticleData articleData = articleDataFixture("1", user);
+    articleData.setBody(null);
+    when(articleQueryService.findRecentArticles(
+            eq(null),
+            eq(null),
+            eq(null),
+            eq(new Page(0, 20)),
+            eq(null),
+            eq(ArticleProjection.SUMMARY)))
+        .thenReturn(new ArticleDataList(asList(articleData), 1));
+
+    RestAssuredMockMvc.given()
+        .param("view", "summary")
+        .when()
+        .get("/articles")
+        .prettyPeek()
+        .then()
+        .statusCode(200)
+        .body("articles[0]", not(hasKey("body")));
+  }
+
   @Test
   public void should_get_feeds_401_without_login() throws Exception {
     RestAssuredMockMvc.when().get("/articles/feed").prettyPeek().then().statusCode(401);
@@ -61,7 +93,8 @@ public class ListArticleApiTest extends TestWithCurrentUser {
     ArticleDataList articleDataList =
         new ArticleDataList(
             asList(articleDataFixture("1", user), articleDataFixture("2", user)), 2);
-    when(articleQueryService.findUserFeed(eq(user), eq(new Page(0, 20))))
+    when(articleQueryService.findUserFeed(
+            eq(user), eq(new Page(0, 20)), eq(ArticleProjection.FULL)))
         .thenReturn(articleDataList);
 
     given()
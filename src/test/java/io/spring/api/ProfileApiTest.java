@@ -61,6 +61,35 @@ public class ProfileApiTest extends TestWithCurrentUser {
         .body("profile.username", equalTo(profileData.getUsername()));
   }
 
+  @Test
+  public void should_return_304_if_profile_not_modified() throws Exception {
+    when(profileQueryService.findByUsername(eq(profileData.getUsername()), eq(null)))
+        .thenReturn(Optional.of(profileData));
+    String etag =
+        RestAssuredMockMvc.when()
+            .get("/profiles/{username}", profileData.getUsername())
+            .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+
+    given()
+        .header("If-None-Match", etag)
+        .when()
+        .get("/profiles/{username}", profileData.getUsername())
+        .then()
+        .statusCode(304);
+
+    profileData.setBio("updated bio");
+    given()
+        .header("If-None-Match", etag)
+        .when()
+        .get("/profiles/{username}", profileData.getUsername())
+        .then()
+        .statusCode(200)
+        .body("profile.bio", equalTo("updated bio"));
+  }
+
   @Test
   public void should_follow_user_success() throws Exception {
     when(profileQueryService.findByUsername(eq(profileData.getUsername()), eq(user)))
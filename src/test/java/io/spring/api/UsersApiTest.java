@@ -17,6 +17,7 @@ import io.spring.core.service.JwtService;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.mybatis.readservice.UserReadService;
+import io.spring.infrastructure.repository.DuplicatedValueException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -70,8 +71,8 @@ public class UsersApiTest {
 
     when(userService.createUser(any())).thenReturn(user);
 
-    when(userRepository.findByUsername(eq(username))).thenReturn(Optional.empty());
-    when(userRepository.findByEmail(eq(email))).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername(eq(username))).thenReturn(false);
+    when(userRepository.existsByEmail(eq(email))).thenReturn(false);
 
     Map<String, Object> param = prepareRegisterParameter(email, username);
 
@@ -133,9 +134,8 @@ public class UsersApiTest {
     String email = "john@jacob.com";
     String username = "johnjacob";
 
-    when(userRepository.findByUsername(eq(username)))
-        .thenReturn(Optional.of(new User(email, username, "123", "bio", "")));
-    when(userRepository.findByEmail(any())).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername(eq(username))).thenReturn(true);
+    when(userRepository.existsByEmail(any())).thenReturn(false);
 
     Map<String, Object> param = prepareRegisterParameter(email, username);
 
@@ -155,10 +155,9 @@ public class UsersApiTest {
     String email = "john@jacob.com";
     String username = "johnjacob2";
 
-    when(userRepository.findByEmail(eq(email)))
-        .thenReturn(Optional.of(new User(email, username, "123", "bio", "")));
+    when(userRepository.existsByEmail(eq(email))).thenReturn(true);
 
-    when(userRepository.findByUsername(eq(username))).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername(eq(username))).thenReturn(false);
 
     Map<String, Object> param = prepareRegisterParameter(email, username);
 
@@ -172,6 +171,28 @@ public class UsersApiTest {
         .body("errors.email[0]", equalTo("duplicated email"));
   }
 
+  @Test
+  public void should_show_error_for_username_taken_after_validation() throws Exception {
+    String email = "john@jacob.com";
+    String username = "johnjacob";
+
+    when(userRepository.existsByUsername(eq(username))).thenReturn(false);
+    when(userRepository.existsByEmail(eq(email))).thenReturn(false);
+    when(userService.createUser(any()))
+        .thenThrow(
+            new DuplicatedValueException(
+                "username", "duplicated username", new RuntimeException("UNIQUE")));
+
+    given()
+        .contentType("application/json")
+        .body(prepareRegisterParameter(email, username))
+        .when()
+        .post("/users")
+        .then()
+        .statusCode(422)
+        .body("errors.username[0]", equalTo("duplicated username"));
+  }
+
   private HashMap<String, Object> prepareRegisterParameter(
       final String email, final String username) {
     return new HashMap<String, Object>() {
@@ -0,0 +1,123 @@
+package io.spring.api.cache;
+
+import io.spring.core.article.ArticleChangedEvent;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+public class AnonymousResponseCacheFilterTest {
+  private ContentVersion contentVersion;
+  private AnonymousResponseCacheFilter filter;
+  private AtomicInteger dispatched;
+  private FilterChain chain;
+
+  @BeforeEach
+  public void setUp() {
+    contentVersion = new ContentVersion();
+    filter = new AnonymousResponseCacheFilter(contentVersion, 16, 60000);
+    dispatched = new AtomicInteger();
+    chain =
+        (request, response) -> {
+          ((HttpServletResponse) response).setHeader("ETag", "\"v1\"");
+          response.setContentType("application/json");
+          response.getWriter().write("{\"count\":" + dispatched.incrementAndGet() + "}");
+        };
+  }
+
+  @Test
+  public void should_serve_same_normalized_query_from_cache() throws Exception {
+    Assertions.assertEquals(get("limit=10&tag=java"), "{\"count\":1}");
+    Assertions.assertEquals(get("tag=java&limit=10"), "{\"count\":1}");
+    Assertions.assertEquals(dispatched.get(), 1);
+  }
+
+  @Test
+  public void should_miss_after_content_version_changed() throws Exception {
+    get("limit=10");
+    contentVersion.onArticleChanged(new ArticleChangedEvent("123"));
+
+    Assertions.assertEquals(get("limit=10"), "{\"count\":2}");
+  }
+
+  @Test
+  public void should_not_cache_authenticated_requests() throws Exception {
+    MockHttpServletRequest request = request("limit=10");
+    request.addHeader("Authorization", "Token abc");
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    Assertions.assertEquals(dispatched.get(), 2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"\"v1\"", "W/\"v1\"", "\"v0\", \"v1\""})
+  public void should_revalidate_cached_response_like_the_uncached_path(String ifNoneMatch)
+      throws Exception {
+    get("limit=10");
+
+    MockHttpServletRequest request = request("limit=10");
+    request.addHeader("If-None-Match", ifNoneMatch);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+
+    Assertions.assertEquals(response.getStatus(), 304);
+    Assertions.assertEquals(response.getHeader("ETag"), "\"v1\"");
+    Assertions.assertEquals(dispatched.get(), 1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"*", "\"v0\"", "W/\"v1\", \"v2\""})
+  public void should_answer_conditional_requests_like_check_not_modified(String ifNoneMatch)
+      throws Exception {
+    get("limit=10");
+
+    MockHttpServletRequest uncached = request("limit=10");
+    uncached.addHeader("If-None-Match", ifNoneMatch);
+    MockHttpServletResponse expected = new MockHttpServletResponse();
+    new ServletWebRequest(uncached, expected).checkNotModified("\"v1\"");
+
+    MockHttpServletRequest request = request("limit=10");
+    request.addHeader("If-None-Match", ifNoneMatch);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+
+    Assertions.assertEquals(response.getStatus(), expected.getStatus());
+  }
+
+  @Test
+  public void should_serve_cached_body_when_etag_differs() throws Exception {
+    get("limit=10");
+
+    MockHttpServletRequest request = request("limit=10");
+    request.addHeader("If-None-Match", "\"v0\"");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+
+    Assertions.assertEquals(response.getStatus(), 200);
+    Assertions.assertEquals(response.getContentAsString(), "{\"count\":1}");
+  }
+
+  private String get(String query) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request(query), response, chain);
+    return response.getContentAsString();
+  }
+
+  private MockHttpServletRequest request(String query) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+    request.setQueryString(query);
+    for (String pair : query.split("&")) {
+      String[] parts = pair.split("=");
+      request.addParameter(parts[0], parts[1]);
+    }
+    return request;
+  }
+}
@@ -0,0 +1,146 @@
+package io.spring.api.capture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.core.user.User;
+import io.spring.infrastructure.traffic.TrafficLogWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+
+public class TrafficCaptureFilterTest {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final FilterChain chain =
+      (request, response) -> StreamUtils.copyToByteArray(request.getInputStream());
+  private Path file;
+  private TrafficLogWriter writer;
+  private TrafficCaptureFilter filter;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    file = Files.createTempFile("traffic", ".jsonl");
+    writer = new TrafficLogWriter(file, 16);
+    filter =
+        new TrafficCaptureFilter(writer, "/graphql", "salt".getBytes(StandardCharsets.UTF_8), 100);
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    SecurityContextHolder.clearContext();
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void should_capture_rest_request_with_masked_query_and_anonymized_principal()
+      throws Exception {
+    User user = new User("a@b.c", "johnjacob", "123", "", "");
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList()));
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+    request.setQueryString("limit=20&token=secret");
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    JsonNode captured = captured().get(0);
+    Assertions.assertEquals(captured.get("method").asText(), "GET");
+    Assertions.assertEquals(captured.get("path").asText(), "/articles");
+    Assertions.assertEquals(captured.get("query").asText(), "limit=20&token=***");
+    Assertions.assertEquals(captured.get("status").asInt(), 200);
+    String principal = captured.get("principal").asText();
+    Assertions.assertEquals(principal.length(), 16);
+    Assertions.assertFalse(principal.contains(user.getId()));
+    Assertions.assertFalse(captured.toString().contains("johnjacob"));
+  }
+
+  @Test
+  public void should_capture_graphql_operation_with_masked_variables() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+    request.setContentType("application/json");
+    request.setContent(
+        ("{\"operationName\":\"login\",\"query\":\"mutation login($input: LoginInput) { x }\","
+                + "\"variables\":{\"input\":{\"email\":\"a@b.c\",\"password\":\"pw\"},"
+                + "\"first\":10}}")
+            .getBytes(StandardCharsets.UTF_8));
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    JsonNode captured = captured().get(0);
+    Assertions.assertEquals(captured.get("operationName").asText(), "login");
+    Assertions.assertTrue(captured.get("document").asText().startsWith("mutation login"));
+    JsonNode variables = captured.get("variables");
+    Assertions.assertEquals(variables.get("first").asInt(), 10);
+    Assertions.assertEquals(variables.get("input").get("email").asText(), "***");
+    Assertions.assertEquals(variables.get("input").get("password").asText(), "***");
+    Assertions.assertFalse(captured.has("principal"));
+  }
+
+  @Test
+  public void should_mask_sensitive_variables_inside_arrays() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+    request.setContentType("application/json");
+    request.setContent(
+        ("{\"query\":\"mutation register($inputs: [UserInput]) { x }\","
+                + "\"variables\":{\"inputs\":[{\"username\":\"jake\",\"password\":\"pw\"},"
+                + "[{\"email\":\"a@b.c\"}],\"plain\"]}}")
+            .getBytes(StandardCharsets.UTF_8));
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    JsonNode inputs = captured().get(0).get("variables").get("inputs");
+    Assertions.assertEquals(inputs.get(0).get("username").asText(), "jake");
+    Assertions.assertEquals(inputs.get(0).get("password").asText(), "***");
+    Assertions.assertEquals(inputs.get(1).get(0).get("email").asText(), "***");
+    Assertions.assertEquals(inputs.get(2).asText(), "plain");
+  }
+
+  @Test
+  public void should_mask_sensitive_inline_literals_in_graphql_documents() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+    request.setContentType("application/json");
+    request.setContent(
+        ("{\"query\":\"mutation { login(password: \\\"pw\\\", email: \\\"a@b.c\\\")"
+                + " { user { username } } article(slug: \\\"hello\\\") { slug } }\"}")
+            .getBytes(StandardCharsets.UTF_8));
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    String document = captured().get(0).get("document").asText();
+    Assertions.assertFalse(document.contains("a@b.c"));
+    Assertions.assertFalse(document.contains("\"pw\""));
+    Assertions.assertTrue(document.contains("password: \"***\""));
+    Assertions.assertTrue(document.contains("slug: \"hello\""));
+  }
+
+  @Test
+  public void should_drop_graphql_documents_that_do_not_parse() {
+    Assertions.assertNull(
+        TrafficCaptureFilter.sanitizeDocument("mutation { login(password: \"pw\" }"));
+  }
+
+  @Test
+  public void should_skip_actuator_requests() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    Assertions.assertTrue(captured().isEmpty());
+  }
+
+  private List<JsonNode> captured() throws Exception {
+    writer.close();
+    List<JsonNode> captured = new ArrayList<>();
+    for (String line : Files.readAllLines(file)) {
+      captured.add(objectMapper.readTree(line));
+    }
+    return captured;
+  }
+}
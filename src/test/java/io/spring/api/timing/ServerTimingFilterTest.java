@@ -0,0 +1,105 @@
+package io.spring.api.timing;
+
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ServerTimingFilterTest {
+  private FilterChain chain;
+
+  @BeforeEach
+  public void setUp() {
+    chain =
+        (request, response) -> {
+          RequestTimings.recordAuth(TimeUnit.MILLISECONDS.toNanos(1));
+          RequestTimings.recordStatement(TimeUnit.MILLISECONDS.toNanos(2));
+          RequestTimings.recordStatement(TimeUnit.MILLISECONDS.toNanos(3));
+          RequestTimings.recordHandler(TimeUnit.MILLISECONDS.toNanos(10));
+          RequestTimings.recordSerialization(TimeUnit.MILLISECONDS.toNanos(4));
+          response.setContentType("application/json");
+          response.getWriter().write("{}");
+        };
+  }
+
+  @Test
+  public void should_emit_phase_breakdown() throws Exception {
+    MockHttpServletResponse response =
+        get(new ServerTimingFilter(true, "secret", 500), "/articles", "secret");
+
+    String header = response.getHeader(ServerTimingFilter.SERVER_TIMING);
+    Assertions.assertTrue(header.startsWith("auth;dur=1.00, sql;dur=5.00;desc=\"2 statements\""));
+    Assertions.assertTrue(header.contains("service;dur=6.00, ser;dur=4.00, total;dur="));
+    Assertions.assertEquals(response.getContentAsString(), "{}");
+    Assertions.assertFalse(RequestTimings.current().isPresent());
+  }
+
+  @Test
+  public void should_require_matching_debug_token() throws Exception {
+    ServerTimingFilter filter = new ServerTimingFilter(true, "secret", 500);
+
+    Assertions.assertNull(
+        get(filter, "/articles", null).getHeader(ServerTimingFilter.SERVER_TIMING));
+    Assertions.assertNull(
+        get(filter, "/articles", "guess").getHeader(ServerTimingFilter.SERVER_TIMING));
+    Assertions.assertNotNull(
+        get(filter, "/articles", "secret").getHeader(ServerTimingFilter.SERVER_TIMING));
+  }
+
+  @Test
+  public void should_not_emit_header_without_debug_token() throws Exception {
+    MockHttpServletResponse response = get(new ServerTimingFilter(true, "", 500), "/articles", "");
+
+    Assertions.assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+    Assertions.assertEquals(response.getContentAsString(), "{}");
+  }
+
+  @Test
+  public void should_not_buffer_actuator_responses() throws Exception {
+    MockHttpServletResponse response =
+        get(new ServerTimingFilter(true, "secret", 500), "/actuator/prometheus", "secret");
+
+    Assertions.assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+    Assertions.assertEquals(response.getContentAsString(), "{}");
+  }
+
+  @Test
+  public void should_stream_non_json_responses_through() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FilterChain download =
+        (request, wrapped) -> {
+          wrapped.setContentType("application/octet-stream");
+          wrapped.getOutputStream().write(new byte[] {1, 2, 3});
+          Assertions.assertEquals(response.getContentAsByteArray().length, 3);
+        };
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles/export");
+    request.addHeader(ServerTimingFilter.DEBUG_TOKEN, "secret");
+    new ServerTimingFilter(true, "secret", 500).doFilter(request, response, download);
+
+    Assertions.assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+    Assertions.assertEquals(response.getContentAsByteArray().length, 3);
+  }
+
+  @Test
+  public void should_not_emit_header_when_disabled() throws Exception {
+    MockHttpServletResponse response =
+        get(new ServerTimingFilter(false, "secret", 500), "/articles", "secret");
+
+    Assertions.assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+    Assertions.assertEquals(response.getContentAsString(), "{}");
+  }
+
+  private MockHttpServletResponse get(ServerTimingFilter filter, String path, String debugToken)
+      throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    if (debugToken != null) {
+      request.addHeader(ServerTimingFilter.DEBUG_TOKEN, debugToken);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+    return response;
+  }
+}
@@ -0,0 +1,49 @@
+package io.spring.application;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StaleWhileRevalidateCacheTest {
+  private static final long ALWAYS_STALE = -1;
+
+  @Test
+  public void should_not_store_value_loaded_before_an_invalidation() {
+    StaleWhileRevalidateCache<String, String> cache =
+        new StaleWhileRevalidateCache<>("swr-invalidation", 10, 30_000, 60_000, 1_000);
+    long generation = cache.generation();
+    cache.evict("key");
+    cache.put("key", "stale", generation);
+
+    Assertions.assertNull(cache.getIfPresent("key", key -> "fresh"));
+
+    cache.put("key", "fresh", cache.generation());
+    Assertions.assertEquals(cache.getIfPresent("key", key -> "fresh"), "fresh");
+  }
+
+  @Test
+  public void should_interrupt_refresh_past_deadline_and_keep_stale_value() throws Exception {
+    StaleWhileRevalidateCache<String, String> cache =
+        new StaleWhileRevalidateCache<>("swr-deadline", 10, ALWAYS_STALE, 60_000, 50);
+    cache.put("key", "stale", cache.generation());
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    String served =
+        cache.getIfPresent(
+            "key",
+            key -> {
+              try {
+                Thread.sleep(10_000);
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+              }
+              return "late";
+            });
+
+    Assertions.assertEquals(served, "stale");
+    Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(cache.getRefreshFailures(), 1);
+    Assertions.assertEquals(cache.getIfPresent("key", key -> "stale"), "stale");
+  }
+}
@@ -0,0 +1,92 @@
+package io.spring.application.article;
+
+import static io.spring.TestHelper.articleDataFixture;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.spring.application.ArticleDataCache;
+import io.spring.application.ArticleProjection;
+import io.spring.application.data.ArticleData;
+import io.spring.core.article.ArticleChangedEvent;
+import io.spring.core.user.User;
+import io.spring.infrastructure.mybatis.readservice.ArticleFavoritesReadService;
+import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ArticleDataCacheTest {
+  private ArticleReadService articleReadService;
+  private User user;
+  private ArticleData articleData;
+
+  @BeforeEach
+  public void setUp() {
+    articleReadService = mock(ArticleReadService.class);
+    user = new User("aisensiy@gmail.com", "aisensiy", "123", "", "");
+    articleData = articleDataFixture("1", user);
+    when(articleReadService.findById(eq(articleData.getId()), eq(ArticleProjection.FULL)))
+        .thenAnswer(invocation -> articleDataFixture("1", user));
+    when(articleReadService.findBySlug(eq(articleData.getSlug()), eq(ArticleProjection.FULL)))
+        .thenAnswer(invocation -> articleDataFixture("1", user));
+  }
+
+  @Test
+  public void should_load_once_and_serve_by_id_and_slug() {
+    ArticleDataCache cache = cache(60000);
+    Assertions.assertEquals(cache.findBySlug(articleData.getSlug()).get().getId(), "1id");
+    Assertions.assertEquals(cache.findBySlug(articleData.getSlug()).get().getId(), "1id");
+    Assertions.assertEquals(cache.findById(articleData.getId()).get().getId(), "1id");
+
+    verify(articleReadService, times(1))
+        .findBySlug(eq(articleData.getSlug()), eq(ArticleProjection.FULL));
+    verify(articleReadService, times(0))
+        .findById(eq(articleData.getId()), eq(ArticleProjection.FULL));
+  }
+
+  @Test
+  public void should_return_copies_so_viewer_overlay_does_not_leak() {
+    ArticleDataCache cache = cache(60000);
+    cache.findById(articleData.getId()).get().setFavorited(true);
+
+    Assertions.assertFalse(cache.findById(articleData.getId()).get().isFavorited());
+  }
+
+  @Test
+  public void should_reload_after_article_changed() {
+    ArticleDataCache cache = cache(60000);
+    cache.findById(articleData.getId());
+    cache.onArticleChanged(new ArticleChangedEvent(articleData.getId()));
+    cache.findById(articleData.getId());
+
+    verify(articleReadService, times(2))
+        .findById(eq(articleData.getId()), eq(ArticleProjection.FULL));
+  }
+
+  @Test
+  public void should_serve_stale_entry_while_refresh_fails() {
+    AtomicLong now = new AtomicLong();
+    ArticleDataCache cache = cache(0);
+    cache.setClock(now::get);
+    cache.findById(articleData.getId());
+    when(articleReadService.findById(eq(articleData.getId()), eq(ArticleProjection.FULL)))
+        .thenThrow(new IllegalStateException("database is locked"));
+    now.addAndGet(1);
+
+    Assertions.assertTrue(cache.findById(articleData.getId()).isPresent());
+  }
+
+  private ArticleDataCache cache(long softTtlMillis) {
+    return new ArticleDataCache(
+        articleReadService,
+        mock(ArticleFavoritesReadService.class),
+        16,
+        softTtlMillis,
+        60000,
+        1000);
+  }
+}
@@ -1,5 +1,7 @@
 package io.spring.application.article;
 
+import io.spring.application.ArticleDataCache;
+import io.spring.application.ArticleProjection;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.CursorPageParameter;
 import io.spring.application.CursorPager;
@@ -16,6 +18,7 @@ import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.repository.GroupCommitWriter;
 import io.spring.infrastructure.repository.MyBatisArticleFavoriteRepository;
 import io.spring.infrastructure.repository.MyBatisArticleRepository;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
@@ -30,9 +33,11 @@ import org.springframework.context.annotation.Import;
 
 @Import({
   ArticleQueryService.class,
+  ArticleDataCache.class,
   MyBatisUserRepository.class,
   MyBatisArticleRepository.class,
-  MyBatisArticleFavoriteRepository.class
+  MyBatisArticleFavoriteRepository.class,
+  GroupCommitWriter.class
 })
 public class ArticleQueryServiceTest extends DbTestBase {
   @Autowired private ArticleQueryService queryService;
@@ -227,4 +232,40 @@ public class ArticleQueryServiceTest extends DbTestBase {
     ArticleData articleData = anotherUserFeed.getArticleDatas().get(0);
     Assertions.assertTrue(articleData.getProfileData().isFollowing());
   }
+
+  @Test
+  public void should_get_user_feed_when_following_ten_thousand_authors() {
+    User follower = new User("follower@email.com", "follower", "123", "", "");
+    userRepository.save(follower);
+    for (int i = 0; i < 9_999; i++) {
+      userRepository.saveRelation(new FollowRelation(follower.getId(), "author-" + i));
+    }
+    userRepository.saveRelation(new FollowRelation(follower.getId(), user.getId()));
+
+    ArticleDataList feed = queryService.findUserFeed(follower, new Page());
+    Assertions.assertEquals(feed.getCount(), 1);
+    Assertions.assertEquals(feed.getArticleDatas().get(0).getId(), article.getId());
+    Assertions.assertTrue(feed.getArticleDatas().get(0).getProfileData().isFollowing());
+
+    CursorPager<ArticleData> cursorFeed =
+        queryService.findUserFeedWithCursor(
+            follower, new CursorPageParameter<>(null, 20, Direction.NEXT));
+    Assertions.assertEquals(cursorFeed.getData().size(), 1);
+    Assertions.assertFalse(cursorFeed.hasNext());
+  }
+
+  @Test
+  public void should_skip_unselected_columns_with_projection() {
+    ArticleProjection headline =
+        ArticleProjection.builder().body(false).tags(false).favoritesCount(false).build();
+
+    CursorPager<ArticleData> articles =
+        queryService.findRecentArticlesWithCursor(
+            null, null, null, new CursorPageParameter<>(null, 20, Direction.NEXT), user, headline);
+    Assertions.assertEquals(articles.getData().size(), 1);
+    ArticleData articleData = articles.getData().get(0);
+    Assertions.assertEquals(articleData.getTitle(), "test");
+    Assertions.assertNull(articleData.getBody());
+    Assertions.assertTrue(articleData.getTagList().isEmpty());
+  }
 }
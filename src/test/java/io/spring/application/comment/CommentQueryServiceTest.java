@@ -1,6 +1,9 @@
 package io.spring.application.comment;
 
 import io.spring.application.CommentQueryService;
+import io.spring.application.CursorPageParameter;
+import io.spring.application.CursorPager;
+import io.spring.application.CursorPager.Direction;
 import io.spring.application.data.CommentData;
 import io.spring.core.article.Article;
 import io.spring.core.article.ArticleRepository;
@@ -10,11 +13,13 @@ import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.repository.GroupCommitWriter;
 import io.spring.infrastructure.repository.MyBatisArticleRepository;
 import io.spring.infrastructure.repository.MyBatisCommentRepository;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +31,8 @@ import org.springframework.context.annotation.Import;
   MyBatisCommentRepository.class,
   MyBatisUserRepository.class,
   CommentQueryService.class,
-  MyBatisArticleRepository.class
+  MyBatisArticleRepository.class,
+  GroupCommitWriter.class
 })
 public class CommentQueryServiceTest extends DbTestBase {
   @Autowired private CommentRepository commentRepository;
@@ -73,4 +79,28 @@ public class CommentQueryServiceTest extends DbTestBase {
     List<CommentData> comments = commentQueryService.findByArticleId(article.getId(), user);
     Assertions.assertEquals(comments.size(), 2);
   }
+
+  @Test
+  public void should_read_comments_of_many_articles_in_one_batch() {
+    Article article = new Article("title", "desc", "body", Arrays.asList("java"), user.getId());
+    articleRepository.save(article);
+    Article another = new Article("another", "desc", "body", Arrays.asList("java"), user.getId());
+    articleRepository.save(another);
+
+    commentRepository.save(new Comment("content1", user.getId(), article.getId()));
+    commentRepository.save(new Comment("content2", user.getId(), article.getId()));
+    commentRepository.save(new Comment("content3", user.getId(), article.getId()));
+    commentRepository.save(new Comment("content4", user.getId(), another.getId()));
+
+    Map<String, CursorPager<CommentData>> comments =
+        commentQueryService.findByArticleIdsWithCursor(
+            Arrays.asList(article.getId(), another.getId(), "none"),
+            user,
+            new CursorPageParameter<>(null, 2, Direction.NEXT));
+    Assertions.assertEquals(comments.get(article.getId()).getData().size(), 2);
+    Assertions.assertTrue(comments.get(article.getId()).hasNext());
+    Assertions.assertEquals(comments.get(another.getId()).getData().size(), 1);
+    Assertions.assertFalse(comments.get(another.getId()).hasNext());
+    Assertions.assertTrue(comments.get("none").getData().isEmpty());
+  }
 }
@@ -0,0 +1,120 @@
+package io.spring.application.profile;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.spring.application.ProfileQueryService;
+import io.spring.application.StaleWhileRevalidateCache;
+import io.spring.application.data.ProfileData;
+import io.spring.application.data.UserData;
+import io.spring.infrastructure.mybatis.readservice.UserReadService;
+import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProfileQueryServiceSingleFlightTest {
+  private static final int CALLERS = 16;
+
+  private UserReadService userReadService;
+  private ProfileQueryService profileQueryService;
+  private ExecutorService executor;
+  private StaleWhileRevalidateCache<?, ?> users;
+  private CountDownLatch started;
+
+  @BeforeEach
+  public void setUp() {
+    userReadService = mock(UserReadService.class);
+    profileQueryService =
+        new ProfileQueryService(
+            userReadService,
+            mock(UserRelationshipQueryService.class),
+            4096,
+            30_000,
+            600_000,
+            2_000);
+    users =
+        StaleWhileRevalidateCache.instances().stream()
+            .filter(cache -> cache.getName().equals("profileUser"))
+            .findFirst()
+            .get();
+    executor = Executors.newFixedThreadPool(CALLERS);
+    started = new CountDownLatch(CALLERS);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void should_share_one_query_between_concurrent_callers() throws Exception {
+    when(userReadService.findByUsername(eq("viral")))
+        .thenAnswer(
+            invocation -> {
+              awaitOtherCallersJoined();
+              return new UserData("id", "viral@test.com", "viral", "", "");
+            });
+
+    List<Future<Optional<ProfileData>>> results = callConcurrently();
+
+    for (Future<Optional<ProfileData>> result : results) {
+      Assertions.assertEquals(result.get(5, TimeUnit.SECONDS).get().getUsername(), "viral");
+    }
+    verify(userReadService, times(1)).findByUsername(eq("viral"));
+  }
+
+  @Test
+  public void should_propagate_load_error_to_every_waiting_caller() throws Exception {
+    when(userReadService.findByUsername(eq("viral")))
+        .thenAnswer(
+            invocation -> {
+              awaitOtherCallersJoined();
+              throw new IllegalStateException("database is locked");
+            });
+
+    List<Future<Optional<ProfileData>>> results = callConcurrently();
+
+    for (Future<Optional<ProfileData>> result : results) {
+      Exception e =
+          Assertions.assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+      Assertions.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    verify(userReadService, times(1)).findByUsername(eq("viral"));
+  }
+
+  private List<Future<Optional<ProfileData>>> callConcurrently() {
+    List<Future<Optional<ProfileData>>> results = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(
+          executor.submit(
+              () -> {
+                started.countDown();
+                return profileQueryService.findByUsername("viral", null);
+              }));
+    }
+    return results;
+  }
+
+  // hold the load until SingleFlight counts every other caller as waiting on it
+  private void awaitOtherCallersJoined() throws InterruptedException {
+    Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (users.getLoadWaiters() < CALLERS - 1) {
+      Assertions.assertTrue(System.nanoTime() < deadline, "callers did not join the load");
+      Thread.onSpinWait();
+    }
+  }
+}
@@ -5,6 +5,7 @@ import io.spring.application.data.ProfileData;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.repository.GroupCommitWriter;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
@@ -12,7 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
-@Import({ProfileQueryService.class, MyBatisUserRepository.class})
+@Import({ProfileQueryService.class, MyBatisUserRepository.class, GroupCommitWriter.class})
 public class ProfileQueryServiceTest extends DbTestBase {
   @Autowired private ProfileQueryService profileQueryService;
   @Autowired private UserRepository userRepository;
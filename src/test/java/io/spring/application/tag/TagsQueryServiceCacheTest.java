@@ -0,0 +1,33 @@
+package io.spring.application.tag;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.spring.application.TagsQueryService;
+import io.spring.core.article.TagsChangedEvent;
+import io.spring.infrastructure.mybatis.readservice.TagReadService;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TagsQueryServiceCacheTest {
+
+  @Test
+  public void should_keep_tags_cached_until_tags_change() {
+    TagReadService tagReadService = mock(TagReadService.class);
+    when(tagReadService.all()).thenReturn(Arrays.asList("java"), Arrays.asList("java", "go"));
+    TagsQueryService tagsQueryService =
+        new TagsQueryService(tagReadService, 1, 30_000, 600_000, 2_000);
+
+    Assertions.assertEquals(tagsQueryService.allTags(), Arrays.asList("java"));
+    Assertions.assertEquals(tagsQueryService.allTags(), Arrays.asList("java"));
+    verify(tagReadService, times(1)).all();
+
+    tagsQueryService.onTagsChanged(new TagsChangedEvent("123"));
+
+    Assertions.assertEquals(tagsQueryService.allTags(), Arrays.asList("java", "go"));
+    verify(tagReadService, times(2)).all();
+  }
+}
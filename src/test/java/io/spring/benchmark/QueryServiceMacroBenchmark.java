@@ -0,0 +1,258 @@
+package io.spring.benchmark;
+
+import io.spring.RealWorldApplication;
+import io.spring.application.ArticleQueryService;
+import io.spring.application.CommentQueryService;
+import io.spring.application.CursorPageParameter;
+import io.spring.application.CursorPager.Direction;
+import io.spring.application.Page;
+import io.spring.application.ProfileQueryService;
+import io.spring.core.article.ArticleRepository;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public class QueryServiceMacroBenchmark {
+  private static final long SEED = 42;
+  private static final int SAMPLE = 200;
+  private static final int POPULAR_TAGS = 20;
+  private static final String[] FILTERS = {"tag", "author", "favorited"};
+
+  private final String revision = System.getProperty("benchmark.revision", "local");
+  private final long warmupMillis = Long.getLong("benchmark.warmup-millis", 1_000);
+  private final long durationMillis = Long.getLong("benchmark.duration-millis", 3_000);
+
+  @Test
+  public void measure_query_services_across_dataset_sizes_and_threads() throws Exception {
+    List<String> report = new ArrayList<>();
+    report.add(
+        "revision,users,articles,scenario,threads,operations,"
+            + "throughput_per_sec,p50_micros,p99_micros");
+    int[] threadCounts =
+        Arrays.stream(System.getProperty("benchmark.threads", "1,4,16").split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    for (String size : System.getProperty("benchmark.sizes", "1000:10000,5000:50000").split(",")) {
+      int users = Integer.parseInt(size.split(":")[0]);
+      int articles = Integer.parseInt(size.split(":")[1]);
+      Path dataset = dataset(users, articles);
+      try (ConfigurableApplicationContext context = boot(dataset)) {
+        Map<String, Runnable> scenarios = scenarios(context, users, articles);
+        for (int threads : threadCounts) {
+          for (Map.Entry<String, Runnable> scenario : scenarios.entrySet()) {
+            Result result = measure(scenario.getValue(), threads);
+            String line =
+                String.join(
+                    ",",
+                    revision,
+                    String.valueOf(users),
+                    String.valueOf(articles),
+                    scenario.getKey(),
+                    String.valueOf(threads),
+                    result.toString());
+            System.out.println(line);
+            report.add(line);
+          }
+        }
+      }
+    }
+    Path output = Paths.get("build", "reports", "benchmark", "query-services-" + revision + ".csv");
+    Files.createDirectories(output.getParent());
+    Files.write(output, report);
+    System.out.println("Report written to " + output.toAbsolutePath());
+  }
+
+  private Path dataset(int users, int articles) throws Exception {
+    Path file = Paths.get("build", "benchmark", "dataset-" + users + "-" + articles + ".db");
+    if (!Files.exists(file)) {
+      Files.createDirectories(file.getParent());
+      Map<String, Object> properties = new HashMap<>();
+      properties.put("datagen.file", file.toAbsolutePath().toString());
+      properties.put("datagen.seed", SEED);
+      properties.put("datagen.users", users);
+      properties.put("datagen.articles", articles);
+      new SpringApplicationBuilder(RealWorldApplication.class)
+          .web(WebApplicationType.NONE)
+          .profiles("datagen")
+          .properties(properties)
+          .run()
+          .close();
+    }
+    return file;
+  }
+
+  // every cache layer is kept out of the way so plans, not hit rates, are measured; a zero-sized
+  // cache evicts each entry as soon as it is stored
+  private ConfigurableApplicationContext boot(Path dataset) {
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("spring.datasource.url", "jdbc:sqlite:" + dataset.toAbsolutePath());
+    properties.put("mybatis.configuration.cache-enabled", false);
+    properties.put("article.cache.size", 0);
+    properties.put("profile.cache.size", 0);
+    properties.put("tags.cache.size", 0);
+    return new SpringApplicationBuilder(RealWorldApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties(properties)
+        .run();
+  }
+
+  private Map<String, Runnable> scenarios(
+      ConfigurableApplicationContext context, int userCount, int articleCount) {
+    ArticleQueryService articleQueryService = context.getBean(ArticleQueryService.class);
+    CommentQueryService commentQueryService = context.getBean(CommentQueryService.class);
+    ProfileQueryService profileQueryService = context.getBean(ProfileQueryService.class);
+    UserRepository userRepository = context.getBean(UserRepository.class);
+    ArticleRepository articleRepository = context.getBean(ArticleRepository.class);
+
+    Random sampler = new Random(SEED);
+    List<User> users = new ArrayList<>();
+    List<String> articleIds = new ArrayList<>();
+    for (int i = 0; i < SAMPLE; i++) {
+      userRepository.findByUsername("user" + sampler.nextInt(userCount)).ifPresent(users::add);
+      articleRepository
+          .findBySlug("article-" + sampler.nextInt(articleCount))
+          .ifPresent(article -> articleIds.add(article.getId()));
+    }
+
+    Map<String, Runnable> scenarios = new LinkedHashMap<>();
+    for (int mask = 0; mask < 1 << FILTERS.length; mask++) {
+      boolean byTag = (mask & 1) != 0;
+      boolean byAuthor = (mask & 2) != 0;
+      boolean byFavorited = (mask & 4) != 0;
+      scenarios.put(
+          "findRecentArticles[" + filterName(mask) + "]",
+          () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            articleQueryService.findRecentArticles(
+                byTag ? "tag" + random.nextInt(POPULAR_TAGS) : null,
+                byAuthor ? "user" + random.nextInt(userCount) : null,
+                byFavorited ? "user" + random.nextInt(userCount) : null,
+                new Page(0, 20),
+                pick(users));
+          });
+    }
+    scenarios.put(
+        "findUserFeedWithCursor",
+        () ->
+            articleQueryService.findUserFeedWithCursor(
+                pick(users), new CursorPageParameter<DateTime>(null, 20, Direction.NEXT)));
+    scenarios.put(
+        "findByArticleIdWithCursor",
+        () ->
+            commentQueryService.findByArticleIdWithCursor(
+                pick(articleIds),
+                pick(users),
+                new CursorPageParameter<DateTime>(null, 20, Direction.NEXT)));
+    scenarios.put(
+        "findByUsername",
+        () ->
+            profileQueryService.findByUsername(
+                "user" + ThreadLocalRandom.current().nextInt(userCount), pick(users)));
+    return scenarios;
+  }
+
+  private Result measure(Runnable operation, int threads) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      run(executor, operation, threads, warmupMillis);
+      long[] latencies = run(executor, operation, threads, durationMillis);
+      Arrays.sort(latencies);
+      return new Result(
+          latencies.length,
+          latencies.length * 1000.0 / durationMillis,
+          percentile(latencies, 0.50),
+          percentile(latencies, 0.99));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private long[] run(ExecutorService executor, Runnable operation, int threads, long millis)
+      throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    List<Future<long[]>> futures = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                  long start = System.nanoTime();
+                  operation.run();
+                  if (count == samples.length) {
+                    samples = Arrays.copyOf(samples, count * 2);
+                  }
+                  samples[count++] = System.nanoTime() - start;
+                }
+                return Arrays.copyOf(samples, count);
+              }));
+    }
+    List<long[]> perThread = new ArrayList<>();
+    for (Future<long[]> future : futures) {
+      perThread.add(future.get());
+    }
+    return perThread.stream().flatMapToLong(Arrays::stream).toArray();
+  }
+
+  private static long percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1000;
+  }
+
+  private static String filterName(int mask) {
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < FILTERS.length; i++) {
+      if ((mask & (1 << i)) != 0) {
+        names.add(FILTERS[i]);
+      }
+    }
+    return names.isEmpty() ? "none" : String.join("+", names);
+  }
+
+  private static <T> T pick(List<T> values) {
+    return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+  }
+
+  private static class Result {
+    private final int operations;
+    private final double throughput;
+    private final long p50Micros;
+    private final long p99Micros;
+
+    Result(int operations, double throughput, long p50Micros, long p99Micros) {
+      this.operations = operations;
+      this.throughput = throughput;
+      this.p50Micros = p50Micros;
+      this.p99Micros = p99Micros;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          Locale.ROOT, "%d,%.1f,%d,%d", operations, throughput, p50Micros, p99Micros);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package io.spring.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.spring.infrastructure.datasource.SqliteDataSourceConfig;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.SQLiteConfig;
+
+public class SqliteJournalModeBenchmark {
+  private static final int READERS = 4;
+  private static final int ROWS = 10_000;
+  private static final long DURATION_MILLIS = 10_000;
+
+  @Test
+  public void compare_rollback_journal_with_wal_reader_writer_pools(@TempDir Path dir)
+      throws Exception {
+    Result rollback;
+    try (HikariDataSource shared =
+        SqliteDataSourceConfig.pool(
+            "rollback", url(dir, "rollback.db"), READERS + 1, false, new SQLiteConfig())) {
+      rollback = run(shared, shared);
+    }
+
+    Result wal;
+    SQLiteConfig walConfig = SqliteDataSourceConfig.walConfig(16384, 268435456L, 5000);
+    String walUrl = url(dir, "wal.db");
+    try (HikariDataSource writer =
+            SqliteDataSourceConfig.pool("wal-writer", walUrl, 1, false, walConfig);
+        HikariDataSource reader =
+            SqliteDataSourceConfig.pool("wal-reader", walUrl, READERS, true, walConfig)) {
+      wal = run(writer, reader);
+    }
+
+    System.out.println("mode      reads/s   writes/s  busy");
+    System.out.println("rollback  " + rollback);
+    System.out.println("wal       " + wal);
+  }
+
+  private Result run(DataSource writer, DataSource reader) throws Exception {
+    try (Connection connection = writer.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("create table items (id integer primary key, body text)");
+      connection.setAutoCommit(false);
+      try (PreparedStatement insert =
+          connection.prepareStatement("insert into items (body) values (?)")) {
+        for (int i = 0; i < ROWS; i++) {
+          insert.setString(1, "body " + i);
+          insert.addBatch();
+        }
+        insert.executeBatch();
+      }
+      connection.commit();
+      connection.setAutoCommit(true);
+    }
+
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicLong reads = new AtomicLong();
+    AtomicLong writes = new AtomicLong();
+    AtomicLong busy = new AtomicLong();
+    ExecutorService executor = Executors.newFixedThreadPool(READERS + 1);
+    List<Runnable> workers = new ArrayList<>();
+    workers.add(() -> write(writer, running, writes, busy));
+    for (int i = 0; i < READERS; i++) {
+      workers.add(() -> read(reader, running, reads, busy));
+    }
+    workers.forEach(executor::submit);
+    Thread.sleep(DURATION_MILLIS);
+    running.set(false);
+    executor.shutdown();
+    executor.awaitTermination(30, TimeUnit.SECONDS);
+    return new Result(
+        reads.get() * 1000 / DURATION_MILLIS, writes.get() * 1000 / DURATION_MILLIS, busy.get());
+  }
+
+  private void read(
+      DataSource dataSource, AtomicBoolean running, AtomicLong reads, AtomicLong busy) {
+    while (running.get()) {
+      try (Connection connection = dataSource.getConnection();
+          PreparedStatement select =
+              connection.prepareStatement("select body from items where id = ?")) {
+        select.setInt(1, ThreadLocalRandom.current().nextInt(1, ROWS));
+        try (ResultSet resultSet = select.executeQuery()) {
+          resultSet.next();
+        }
+        reads.incrementAndGet();
+      } catch (SQLException e) {
+        busy.incrementAndGet();
+      }
+    }
+  }
+
+  private void write(
+      DataSource dataSource, AtomicBoolean running, AtomicLong writes, AtomicLong busy) {
+    while (running.get()) {
+      try (Connection connection = dataSource.getConnection();
+          PreparedStatement insert =
+              connection.prepareStatement("insert into items (body) values (?)")) {
+        insert.setString(1, "body");
+        insert.executeUpdate();
+        writes.incrementAndGet();
+      } catch (SQLException e) {
+        busy.incrementAndGet();
+      }
+    }
+  }
+
+  private static String url(Path dir, String file) {
+    return "jdbc:sqlite:" + dir.resolve(file);
+  }
+
+  private static class Result {
+    private final long readsPerSecond;
+    private final long writesPerSecond;
+    private final long busy;
+
+    Result(long readsPerSecond, long writesPerSecond, long busy) {
+      this.readsPerSecond = readsPerSecond;
+      this.writesPerSecond = writesPerSecond;
+      this.busy = busy;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%-9d %-9d %d", readsPerSecond, writesPerSecond, busy);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package io.spring.graphql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+public class PersistedQueryFilterTest {
+  private static final String QUERY = "{ tags }";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final List<JsonNode> forwarded = new ArrayList<>();
+  private PersistedQueryFilter filter;
+  private FilterChain chain;
+
+  @BeforeEach
+  public void setUp() {
+    filter = new PersistedQueryFilter(objectMapper, 10);
+    chain =
+        (request, response) ->
+            forwarded.add(
+                objectMapper.readTree(StreamUtils.copyToByteArray(request.getInputStream())));
+  }
+
+  @Test
+  public void should_reject_unknown_hash() throws Exception {
+    MockHttpServletResponse response = post(null, PersistedQueryFilter.sha256(QUERY));
+
+    Assertions.assertTrue(forwarded.isEmpty());
+    Assertions.assertEquals(errorCode(response), "PERSISTED_QUERY_NOT_FOUND");
+    Assertions.assertEquals(
+        objectMapper.readTree(response.getContentAsString()).at("/errors/0/message").asText(),
+        "PersistedQueryNotFound");
+    Assertions.assertEquals(filter.getMisses(), 1);
+  }
+
+  @Test
+  public void should_reject_hash_that_does_not_match_document() throws Exception {
+    MockHttpServletResponse response = post(QUERY, PersistedQueryFilter.sha256("{ articles }"));
+
+    Assertions.assertTrue(forwarded.isEmpty());
+    Assertions.assertEquals(errorCode(response), "PERSISTED_QUERY_HASH_MISMATCH");
+    MockHttpServletResponse lookup = post(null, PersistedQueryFilter.sha256(QUERY));
+    Assertions.assertEquals(errorCode(lookup), "PERSISTED_QUERY_NOT_FOUND");
+  }
+
+  @Test
+  public void should_serve_registered_query_by_hash() throws Exception {
+    String hash = PersistedQueryFilter.sha256(QUERY);
+    post(QUERY, hash);
+    MockHttpServletResponse response = post(null, hash.toUpperCase());
+
+    Assertions.assertEquals(response.getContentAsString(), "");
+    Assertions.assertEquals(forwarded.size(), 2);
+    Assertions.assertEquals(forwarded.get(1).get("query").asText(), QUERY);
+    Assertions.assertEquals(filter.getSize(), 1);
+    Assertions.assertEquals(filter.getHits(), 1);
+    Assertions.assertEquals(filter.getMisses(), 0);
+  }
+
+  @Test
+  public void should_notify_read_listener_with_cached_body() throws Exception {
+    String hash = PersistedQueryFilter.sha256(QUERY);
+    post(QUERY, hash);
+    ByteArrayOutputStream received = new ByteArrayOutputStream();
+    List<String> callbacks = new ArrayList<>();
+    chain =
+        (request, response) -> {
+          ServletInputStream in = request.getInputStream();
+          in.setReadListener(
+              new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                  callbacks.add("data");
+                  byte[] buffer = new byte[16];
+                  int read;
+                  while (in.isReady() && (read = in.read(buffer)) != -1) {
+                    received.write(buffer, 0, read);
+                  }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                  callbacks.add("done");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                  callbacks.add("error");
+                }
+              });
+        };
+    post(null, hash);
+
+    Assertions.assertEquals(callbacks.toString(), "[data, done]");
+    JsonNode body = objectMapper.readTree(received.toByteArray());
+    Assertions.assertEquals(body.get("query").asText(), QUERY);
+  }
+
+  private MockHttpServletResponse post(String query, String hash) throws Exception {
+    StringBuilder body = new StringBuilder("{");
+    if (query != null) {
+      body.append("\"query\":").append(objectMapper.writeValueAsString(query)).append(",");
+    }
+    body.append("\"extensions\":{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"")
+        .append(hash)
+        .append("\"}}}");
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+    request.setContentType("application/json");
+    request.setContent(body.toString().getBytes(StandardCharsets.UTF_8));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+    return response;
+  }
+
+  private String errorCode(MockHttpServletResponse response) throws Exception {
+    return objectMapper
+        .readTree(response.getContentAsString())
+        .at("/errors/0/extensions/code")
+        .asText();
+  }
+}
@@ -0,0 +1,109 @@
+package io.spring.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class QueryCostInstrumentationTest {
+  private static final String SCHEMA =
+      "type Query { articles(first: Int): ArticlesConnection, node: Node }"
+          + " type ArticlesConnection { edges: [ArticleEdge] }"
+          + " type ArticleEdge { node: Article }"
+          + " type Article { slug: String, comments(first: Int): CommentsConnection }"
+          + " type CommentsConnection { edges: [CommentEdge] }"
+          + " type CommentEdge { node: Comment }"
+          + " type Comment { body: String }"
+          + " type Node { name: String, child: Node }";
+
+  private final AtomicInteger fetches = new AtomicInteger();
+  private GraphQL graphQL;
+
+  @BeforeEach
+  public void setUp() {
+    RuntimeWiring wiring =
+        RuntimeWiring.newRuntimeWiring()
+            .type(
+                "Query",
+                builder ->
+                    builder
+                        .dataFetcher(
+                            "articles",
+                            env -> {
+                              fetches.incrementAndGet();
+                              return Collections.singletonMap(
+                                  "edges",
+                                  Collections.singletonList(
+                                      Collections.singletonMap(
+                                          "node", Collections.singletonMap("slug", "a"))));
+                            })
+                        .dataFetcher(
+                            "node",
+                            env -> {
+                              fetches.incrementAndGet();
+                              return Collections.singletonMap("name", "root");
+                            }))
+            .build();
+    GraphQLSchema schema =
+        new SchemaGenerator()
+            .makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring);
+    graphQL =
+        GraphQL.newGraphQL(schema)
+            .instrumentation(new QueryCostInstrumentation(10, 5000, 20))
+            .build();
+  }
+
+  @Test
+  public void should_reject_query_over_max_depth() {
+    StringBuilder query = new StringBuilder("{ node { ");
+    for (int i = 0; i < 10; i++) {
+      query.append("child { ");
+    }
+    query.append("name");
+    for (int i = 0; i < 11; i++) {
+      query.append(" }");
+    }
+    ExecutionResult result = graphQL.execute(query.append(" }").toString());
+
+    Assertions.assertFalse(result.getErrors().isEmpty());
+    Assertions.assertTrue(
+        result.getErrors().get(0).getMessage().contains("exceeds the maximum allowed depth 10"));
+    Assertions.assertNull(result.getData());
+    Assertions.assertEquals(fetches.get(), 0);
+  }
+
+  @Test
+  public void should_reject_query_over_max_cost() {
+    ExecutionResult result =
+        graphQL.execute(
+            "{ articles(first: 100) { edges { node { slug"
+                + " comments(first: 100) { edges { node { body } } } } } } }");
+
+    Assertions.assertFalse(result.getErrors().isEmpty());
+    Assertions.assertTrue(
+        result.getErrors().get(0).getMessage().contains("exceeds the maximum allowed cost 5000"));
+    Assertions.assertNull(result.getData());
+    Assertions.assertEquals(fetches.get(), 0);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void should_report_cost_for_accepted_query() {
+    ExecutionResult result = graphQL.execute("{ articles(first: 5) { edges { node { slug } } } }");
+
+    Assertions.assertTrue(result.getErrors().isEmpty());
+    Assertions.assertEquals(fetches.get(), 1);
+    Map<String, Object> cost = (Map<String, Object>) result.getExtensions().get("cost");
+    Assertions.assertEquals(cost.get("estimated"), 1L + 5 + 5 + 5);
+    Assertions.assertEquals(cost.get("depth"), 4);
+    Assertions.assertTrue((Long) cost.get("actual") > 0);
+  }
+}
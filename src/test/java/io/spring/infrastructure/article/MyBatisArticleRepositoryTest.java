@@ -6,6 +6,7 @@ import io.spring.core.article.Tag;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.repository.GroupCommitWriter;
 import io.spring.infrastructure.repository.MyBatisArticleRepository;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
 import java.util.Arrays;
@@ -16,7 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
-@Import({MyBatisArticleRepository.class, MyBatisUserRepository.class})
+@Import({MyBatisArticleRepository.class, MyBatisUserRepository.class, GroupCommitWriter.class})
 public class MyBatisArticleRepositoryTest extends DbTestBase {
   @Autowired private ArticleRepository articleRepository;
 
@@ -41,6 +42,16 @@ public class MyBatisArticleRepositoryTest extends DbTestBase {
     Assertions.assertTrue(optional.get().getTags().contains(new Tag("spring")));
   }
 
+  @Test
+  public void should_probe_slug_existence() {
+    Assertions.assertFalse(articleRepository.existsBySlug(article.getSlug()));
+
+    articleRepository.save(article);
+
+    Assertions.assertTrue(articleRepository.existsBySlug(article.getSlug()));
+    Assertions.assertFalse(articleRepository.existsBySlug("not-exists"));
+  }
+
   @Test
   public void should_update_and_fetch_article_success() {
     articleRepository.save(article);
@@ -3,6 +3,7 @@ package io.spring.infrastructure.comment;
 import io.spring.core.comment.Comment;
 import io.spring.core.comment.CommentRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.repository.GroupCommitWriter;
 import io.spring.infrastructure.repository.MyBatisCommentRepository;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
@@ -10,7 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
-@Import({MyBatisCommentRepository.class})
+@Import({MyBatisCommentRepository.class, GroupCommitWriter.class})
 public class MyBatisCommentRepositoryTest extends DbTestBase {
   @Autowired private CommentRepository commentRepository;
 
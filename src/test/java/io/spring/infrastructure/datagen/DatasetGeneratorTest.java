@@ -0,0 +1,60 @@
+package io.spring.infrastructure.datagen;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.sqlite.SQLiteDataSource;
+
+public class DatasetGeneratorTest {
+  private static final String[] TABLES = {
+    "users", "tags", "articles", "article_tags", "follows", "article_favorites", "comments"
+  };
+
+  @TempDir Path directory;
+
+  @Test
+  public void should_generate_same_dataset_for_a_seed_at_any_thread_count() throws Exception {
+    Map<String, List<Map<String, Object>>> single = generate("single.db", 1);
+    Map<String, List<Map<String, Object>>> parallel = generate("parallel.db", 4);
+
+    Assertions.assertFalse(single.get("follows").isEmpty());
+    Assertions.assertEquals(single, parallel);
+  }
+
+  private Map<String, List<Map<String, Object>>> generate(String name, int threads)
+      throws Exception {
+    SQLiteDataSource dataSource = new SQLiteDataSource();
+    dataSource.setUrl("jdbc:sqlite:" + Files.createFile(directory.resolve(name)));
+    Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    new DatasetGenerator(
+            jdbcTemplate,
+            new DataSourceTransactionManager(dataSource),
+            42,
+            60,
+            300,
+            20,
+            5,
+            5,
+            2,
+            1.07,
+            16,
+            threads)
+        .run();
+
+    Map<String, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+    for (String table : TABLES) {
+      rows.put(table, jdbcTemplate.queryForList("select * from " + table + " order by 1, 2"));
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,32 @@
+package io.spring.infrastructure.datagen;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ZipfDistributionTest {
+
+  @Test
+  public void should_favor_low_ranks() {
+    ZipfDistribution distribution = new ZipfDistribution(1000, 1.07);
+    SplittableRandom random = new SplittableRandom(42);
+    int[] counts = new int[1000];
+    for (int i = 0; i < 100_000; i++) {
+      counts[distribution.sample(random)]++;
+    }
+
+    Assertions.assertTrue(counts[0] > counts[1]);
+    Assertions.assertTrue(counts[1] > counts[10]);
+    Assertions.assertTrue(counts[0] > 100_000 / 10);
+  }
+
+  @Test
+  public void should_be_deterministic_for_a_seed() {
+    ZipfDistribution distribution = new ZipfDistribution(1000, 1.07);
+    SplittableRandom first = new SplittableRandom(7);
+    SplittableRandom second = new SplittableRandom(7);
+    for (int i = 0; i < 1000; i++) {
+      Assertions.assertEquals(distribution.sample(first), distribution.sample(second));
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package io.spring.infrastructure.datasource;
+
+import io.spring.core.user.User;
+import io.spring.infrastructure.mybatis.mapper.UserMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import javax.sql.DataSource;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(
+    properties = {"sqlite.wal.enabled=true", "mybatis.configuration.cache-enabled=false"})
+@Import(ReadWriteRoutingTest.QueryOnlyRecorder.class)
+public class ReadWriteRoutingTest {
+  @Autowired private UserMapper userMapper;
+  @Autowired private QueryOnlyRecorder recorder;
+
+  @Autowired
+  @Qualifier("sqliteReaderDataSource")
+  private DataSource reader;
+
+  @DynamicPropertySource
+  static void database(DynamicPropertyRegistry registry) throws IOException {
+    Path file = Files.createTempFile("read-write-routing", ".db");
+    file.toFile().deleteOnExit();
+    registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + file);
+  }
+
+  @Test
+  public void should_route_mapper_writes_to_writer_and_reads_to_reader() {
+    User user = new User("routing@test.com", "routing", "123", "", "");
+
+    userMapper.insert(user);
+    Assertions.assertFalse(recorder.lastQueryOnly);
+
+    Assertions.assertEquals(userMapper.findById(user.getId()).getUsername(), "routing");
+    Assertions.assertTrue(recorder.lastQueryOnly);
+  }
+
+  @Test
+  public void should_reject_writes_on_reader_pool() throws SQLException {
+    try (Connection connection = reader.getConnection();
+        Statement statement = connection.createStatement()) {
+      Assertions.assertThrows(
+          SQLException.class, () -> statement.executeUpdate("delete from tags"));
+    }
+  }
+
+  // the reader pool is the only one opened with query_only, so it tells which pool ran a statement
+  @Intercepts({
+    @Signature(
+        type = StatementHandler.class,
+        method = "prepare",
+        args = {Connection.class, Integer.class})
+  })
+  static class QueryOnlyRecorder implements Interceptor {
+    private volatile boolean lastQueryOnly;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+      Connection connection = (Connection) invocation.getArgs()[0];
+      try (Statement statement = connection.createStatement();
+          ResultSet result = statement.executeQuery("PRAGMA query_only")) {
+        lastQueryOnly = result.next() && result.getInt(1) == 1;
+      }
+      return invocation.proceed();
+    }
+
+    @Override
+    public Object plugin(Object target) {
+      return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {}
+  }
+}
@@ -0,0 +1,78 @@
+package io.spring.infrastructure.diagnostics;
+
+import io.spring.infrastructure.mybatis.cache.BoundedTtlCache;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+public class JfrRecordingEndpointTest {
+
+  @Test
+  public void should_layer_application_events_over_default_settings() throws Exception {
+    Map<String, String> settings = JfrRecordingEndpoint.settings();
+
+    Assertions.assertEquals(settings.get("io.spring.SqlStatement#threshold"), "1 ms");
+    Assertions.assertEquals(settings.get("io.spring.CacheLookup#enabled"), "true");
+    Assertions.assertEquals(settings.get("jdk.GarbageCollection#enabled"), "true");
+  }
+
+  @Test
+  public void should_record_cache_lookups() throws Exception {
+    BoundedTtlCache cache = new BoundedTtlCache("jfr-test");
+    cache.putObject("present", "value");
+    Path file = Files.createTempFile("jfr-test", ".jfr");
+    try (Recording recording = new Recording(JfrRecordingEndpoint.settings())) {
+      recording.start();
+      cache.getObject("present");
+      cache.getObject("missing");
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> lookups =
+        RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals("io.spring.CacheLookup"))
+            .filter(event -> "jfr-test".equals(event.getString("cache")))
+            .collect(Collectors.toList());
+    Assertions.assertEquals(lookups.size(), 2);
+    Assertions.assertTrue(lookups.get(0).getBoolean("hit"));
+    Assertions.assertFalse(lookups.get(1).getBoolean("hit"));
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void should_delete_partial_dump_once_streamed() throws Exception {
+    Path directory = Files.createTempDirectory("jfr-endpoint");
+    JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint(directory.toString(), 60, 60, 1);
+    try {
+      String name = (String) endpoint.start(null).getBody().get("name");
+      Assertions.assertEquals(
+          endpoint.start(null).getStatus(), WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+
+      Resource dump = endpoint.dump(name).getBody();
+      Path partial = dump.getFile().toPath();
+      Assertions.assertTrue(Files.exists(partial));
+      try (InputStream in = dump.getInputStream()) {
+        Assertions.assertTrue(in.read() >= 0);
+      }
+      Assertions.assertFalse(Files.exists(partial));
+    } finally {
+      endpoint.close();
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      Assertions.assertEquals(files.count(), 0L);
+    }
+    Files.delete(directory);
+  }
+}
@@ -0,0 +1,96 @@
+package io.spring.infrastructure.diagnostics;
+
+import io.spring.infrastructure.mybatis.SqlParameter;
+import io.spring.infrastructure.mybatis.SqlStatementExecution;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.sqlite.SQLiteDataSource;
+
+public class SlowStatementRecorderTest {
+  private SlowStatementRecorder recorder;
+
+  @AfterEach
+  public void tearDown() {
+    recorder.shutdown();
+  }
+
+  @Test
+  public void should_record_slow_statement_with_parameters_and_plan() throws Exception {
+    recorder = recorder(10, 3);
+
+    recorder.onStatement(
+        execution(
+            200,
+            Arrays.asList(
+                new SqlParameter("user.username", "jake"),
+                new SqlParameter("user.password", "secret"))));
+    recorder.awaitRecorded();
+
+    List<SlowStatement> entries = recorder.getEntries();
+    Assertions.assertEquals(entries.size(), 1);
+    SlowStatement entry = entries.get(0);
+    Assertions.assertEquals(entry.getStatementId(), "UserMapper.findByUsername");
+    Assertions.assertEquals(entry.getSql(), "select ? as username, ? as password");
+    Assertions.assertEquals(
+        entry.getParameters(), Arrays.asList("user.username=jake", "user.password=***"));
+    Assertions.assertFalse(entry.isSampled());
+    Assertions.assertFalse(entry.getPlan().isEmpty());
+  }
+
+  @Test
+  public void should_mask_credentials_and_contact_details() {
+    Assertions.assertEquals(
+        SlowStatementRecorder.describe(new SqlParameter("user.email", "a@b.c")), "user.email=***");
+    Assertions.assertEquals(
+        SlowStatementRecorder.describe(new SqlParameter("resetToken", "abc")), "resetToken=***");
+    Assertions.assertEquals(
+        SlowStatementRecorder.describe(new SqlParameter("username", "jake")), "username=jake");
+  }
+
+  @Test
+  public void should_sample_one_in_n_fast_statements() throws Exception {
+    recorder = recorder(10, 3);
+
+    for (int i = 0; i < 7; i++) {
+      recorder.onStatement(execution(1, Collections.emptyList()));
+    }
+    recorder.awaitRecorded();
+
+    Assertions.assertEquals(recorder.getEntries().size(), 2);
+    Assertions.assertTrue(recorder.getEntries().get(0).isSampled());
+  }
+
+  @Test
+  public void should_keep_only_latest_entries() throws Exception {
+    recorder = recorder(2, 0);
+
+    for (int i = 0; i < 5; i++) {
+      recorder.onStatement(execution(200 + i, Collections.emptyList()));
+    }
+    recorder.awaitRecorded();
+
+    List<SlowStatement> entries = recorder.getEntries();
+    Assertions.assertEquals(entries.size(), 2);
+    Assertions.assertEquals(entries.get(0).getElapsedMillis(), 204.0, 0.001);
+  }
+
+  private static SlowStatementRecorder recorder(int bufferSize, int sampleRate) {
+    SQLiteDataSource dataSource = new SQLiteDataSource();
+    dataSource.setUrl("jdbc:sqlite::memory:");
+    return new SlowStatementRecorder(dataSource, 100, sampleRate, bufferSize, true);
+  }
+
+  private static SqlStatementExecution execution(long elapsedMillis, List<SqlParameter> params) {
+    return new SqlStatementExecution(
+        "UserMapper.findByUsername",
+        "select ?   as username,\n ? as password",
+        TimeUnit.MILLISECONDS.toNanos(elapsedMillis),
+        1,
+        () -> params);
+  }
+}
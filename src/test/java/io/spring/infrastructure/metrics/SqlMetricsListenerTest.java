@@ -0,0 +1,40 @@
+package io.spring.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.infrastructure.mybatis.SqlStatementExecution;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SqlMetricsListenerTest {
+
+  @Test
+  public void should_time_statements_by_mapper_and_method() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    SqlMetricsListener listener = new SqlMetricsListener(registry);
+    String id = "io.spring.infrastructure.mybatis.readservice.ArticleReadService.findById";
+
+    listener.onStatement(execution(id, 2_000_000));
+    listener.onStatement(execution(id, 4_000_000));
+
+    Timer timer =
+        registry
+            .get("mybatis.statement")
+            .tag("statement", "ArticleReadService.findById")
+            .timer();
+    Assertions.assertEquals(timer.count(), 2);
+    Assertions.assertEquals(timer.totalTime(TimeUnit.MILLISECONDS), 6.0, 0.001);
+  }
+
+  @Test
+  public void should_keep_unqualified_ids() {
+    Assertions.assertEquals(SqlMetricsListener.shortId("unknown"), "unknown");
+    Assertions.assertEquals(SqlMetricsListener.shortId("Mapper.find"), "Mapper.find");
+  }
+
+  private static SqlStatementExecution execution(String id, long elapsedNanos) {
+    return new SqlStatementExecution(id, "select 1", elapsedNanos, 1, Collections::emptyList);
+  }
+}
@@ -0,0 +1,30 @@
+package io.spring.infrastructure.mybatis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class InListsTest {
+
+  @Test
+  public void should_split_large_lists_into_chunks_and_merge_results() {
+    List<String> ids =
+        IntStream.range(0, 10_000).mapToObj(String::valueOf).collect(Collectors.toList());
+    List<Integer> chunkSizes = new ArrayList<>();
+
+    List<String> result =
+        InLists.chunked(
+            ids,
+            chunk -> {
+              chunkSizes.add(chunk.size());
+              return chunk;
+            });
+
+    Assertions.assertEquals(ids, result);
+    Assertions.assertEquals(10, chunkSizes.size());
+    Assertions.assertTrue(chunkSizes.stream().allMatch(size -> size <= InLists.MAX_CHUNK));
+  }
+}
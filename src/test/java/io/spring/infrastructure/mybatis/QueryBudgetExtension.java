@@ -0,0 +1,41 @@
+package io.spring.infrastructure.mybatis;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+public class QueryBudgetExtension
+    implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+  @Override
+  public void beforeTestExecution(ExtensionContext context) {
+    counter(context).reset();
+  }
+
+  @Override
+  public void afterTestExecution(ExtensionContext context) {
+    if (context.getExecutionException().isPresent()) {
+      return;
+    }
+    AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+        .ifPresent(
+            budget -> {
+              SqlStatementCounter counter = counter(context);
+              long total = counter.getTotal();
+              if (total > budget.value()) {
+                fail(
+                    String.format(
+                        "%s executed %d SQL statements, budget is %d: %s",
+                        context.getDisplayName(), total, budget.value(), counter.getCounts()));
+              }
+            });
+  }
+
+  private static SqlStatementCounter counter(ExtensionContext context) {
+    return SpringExtension.getApplicationContext(context).getBean(SqlStatementCounter.class);
+  }
+}
@@ -0,0 +1,29 @@
+package io.spring.infrastructure.mybatis;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SqlStatementCounter implements SqlStatementListener {
+  private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+  @Override
+  public void onStatement(SqlStatementExecution execution) {
+    counts.computeIfAbsent(execution.getStatementId(), id -> new LongAdder()).increment();
+  }
+
+  public void reset() {
+    counts.clear();
+  }
+
+  public long getTotal() {
+    return counts.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  public Map<String, Long> getCounts() {
+    Map<String, Long> result = new TreeMap<>();
+    counts.forEach((id, count) -> result.put(id, count.sum()));
+    return result;
+  }
+}
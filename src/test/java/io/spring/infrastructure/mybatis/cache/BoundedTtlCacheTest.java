@@ -0,0 +1,53 @@
+package io.spring.infrastructure.mybatis.cache;
+
+import io.spring.application.data.ProfileData;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BoundedTtlCacheTest {
+
+  @Test
+  public void should_evict_least_recently_used_entry_when_full() {
+    BoundedTtlCache cache = new BoundedTtlCache("lru");
+    cache.setSize(2);
+    cache.putObject("a", "1");
+    cache.putObject("b", "2");
+    cache.getObject("a");
+    cache.putObject("c", "3");
+
+    Assertions.assertEquals(cache.getSize(), 2);
+    Assertions.assertEquals(cache.getObject("a"), "1");
+    Assertions.assertNull(cache.getObject("b"));
+    Assertions.assertEquals(cache.getEvictions(), 1);
+    Assertions.assertEquals(cache.getHits(), 2);
+    Assertions.assertEquals(cache.getMisses(), 1);
+  }
+
+  @Test
+  public void should_expire_entries_after_ttl() {
+    AtomicLong now = new AtomicLong();
+    BoundedTtlCache cache = new BoundedTtlCache("ttl");
+    cache.setClock(now::get);
+    cache.setTtlMillis(10);
+    cache.putObject("a", "1");
+
+    now.set(9);
+    Assertions.assertEquals(cache.getObject("a"), "1");
+    now.set(10);
+    Assertions.assertNull(cache.getObject("a"));
+    Assertions.assertEquals(cache.getSize(), 0);
+  }
+
+  @Test
+  public void should_return_copies_of_cached_values() {
+    BoundedTtlCache cache = new BoundedTtlCache("copy");
+    cache.putObject("a", new ProfileData("id", "user", "bio", "image", false));
+
+    ProfileData first = (ProfileData) cache.getObject("a");
+    first.setFollowing(true);
+
+    ProfileData second = (ProfileData) cache.getObject("a");
+    Assertions.assertFalse(second.isFollowing());
+  }
+}
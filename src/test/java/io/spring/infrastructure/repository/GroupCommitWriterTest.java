@@ -0,0 +1,107 @@
+package io.spring.infrastructure.repository;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+public class GroupCommitWriterTest {
+  private static final int WRITERS = 16;
+
+  private PlatformTransactionManager transactionManager;
+  private GroupCommitWriter groupCommitWriter;
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() {
+    transactionManager = mock(PlatformTransactionManager.class);
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    groupCommitWriter = new GroupCommitWriter(transactionManager, true, 50, 64);
+    executor = Executors.newFixedThreadPool(WRITERS);
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    executor.shutdownNow();
+    groupCommitWriter.shutdown();
+  }
+
+  @Test
+  public void should_commit_concurrent_writes_in_shared_batches() throws Exception {
+    AtomicInteger applied = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> results = new ArrayList<>();
+    for (int i = 0; i < WRITERS; i++) {
+      results.add(
+          executor.submit(
+              () -> {
+                start.await();
+                groupCommitWriter.write(applied::incrementAndGet);
+                return null;
+              }));
+    }
+    start.countDown();
+    for (Future<?> result : results) {
+      result.get(5, TimeUnit.SECONDS);
+    }
+
+    Assertions.assertEquals(WRITERS, applied.get());
+    Assertions.assertEquals(WRITERS, groupCommitWriter.getWrites());
+    Assertions.assertTrue(groupCommitWriter.getBatches() < WRITERS);
+  }
+
+  @Test
+  public void should_only_fail_the_caller_whose_write_failed() throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> results = new ArrayList<>();
+    for (int i = 0; i < WRITERS; i++) {
+      boolean failing = i == 0;
+      results.add(
+          executor.submit(
+              () -> {
+                start.await();
+                groupCommitWriter.write(
+                    () -> {
+                      if (failing) {
+                        throw new IllegalStateException("constraint violated");
+                      }
+                    });
+                return null;
+              }));
+    }
+    start.countDown();
+
+    Exception failure =
+        Assertions.assertThrows(Exception.class, () -> results.get(0).get(5, TimeUnit.SECONDS));
+    Assertions.assertTrue(failure.getCause() instanceof IllegalStateException);
+    for (Future<?> result : results.subList(1, WRITERS)) {
+      result.get(5, TimeUnit.SECONDS);
+    }
+    Assertions.assertEquals(WRITERS - 1, groupCommitWriter.getWrites());
+  }
+
+  @Test
+  public void should_write_inline_when_disabled() {
+    GroupCommitWriter inline = new GroupCommitWriter(transactionManager, false, 50, 64);
+    AtomicInteger applied = new AtomicInteger();
+
+    inline.write(applied::incrementAndGet);
+
+    Assertions.assertEquals(1, applied.get());
+    Assertions.assertEquals(0, inline.getBatches());
+  }
+}
@@ -0,0 +1,58 @@
+package io.spring.infrastructure.repository;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MembershipFilterTest {
+
+  @Test
+  public void should_report_possible_membership_until_loaded() {
+    MembershipFilter filter = new MembershipFilter(1000);
+
+    Assertions.assertTrue(filter.mightContain("anything"));
+  }
+
+  @Test
+  public void should_never_miss_loaded_or_added_values() {
+    MembershipFilter filter = new MembershipFilter(1000);
+    filter.loadIfNeeded(add -> Arrays.asList("john", "jacob").forEach(add));
+    filter.add("jingleheimer");
+
+    Assertions.assertTrue(filter.mightContain("john"));
+    Assertions.assertTrue(filter.mightContain("jacob"));
+    Assertions.assertTrue(filter.mightContain("jingleheimer"));
+  }
+
+  @Test
+  public void should_keep_false_positive_rate_low() {
+    MembershipFilter filter = new MembershipFilter(10_000);
+    filter.loadIfNeeded(
+        add -> {
+          for (int i = 0; i < 10_000; i++) {
+            add.accept("user-" + i);
+          }
+        });
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (filter.mightContain("other-" + i)) {
+        falsePositives++;
+      }
+    }
+    Assertions.assertTrue(falsePositives < 300);
+  }
+
+  @Test
+  public void should_stay_unloaded_when_loading_fails() {
+    MembershipFilter filter = new MembershipFilter(1000);
+    filter.loadIfNeeded(
+        add -> {
+          throw new IllegalStateException("database unavailable");
+        });
+
+    Assertions.assertTrue(filter.mightContain("anything"));
+    filter.loadIfNeeded(add -> add.accept("john"));
+    Assertions.assertFalse(filter.mightContain("anything"));
+  }
+}
@@ -0,0 +1,102 @@
+package io.spring.infrastructure.traffic;
+
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrafficReplayTest {
+  private Path file;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    file = Files.createTempFile("traffic", ".jsonl");
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void should_load_reads_and_resolve_persisted_queries() throws Exception {
+    Files.write(
+        file,
+        Arrays.asList(
+            "{\"timestamp\":30,\"method\":\"POST\",\"path\":\"/graphql\","
+                + "\"persistedQueryHash\":\"abc\",\"operationName\":\"feed\"}",
+            "{\"timestamp\":10,\"method\":\"POST\",\"path\":\"/graphql\","
+                + "\"persistedQueryHash\":\"abc\",\"document\":\"query feed { x }\"}",
+            "",
+            "{\"timestamp\":20,\"method\":\"POST\",\"path\":\"/articles\",\"status\":201}",
+            "{\"timestamp\":40,\"method\":\"POST\",\"path\":\"/graphql\","
+                + "\"document\":\"mutation { y }\"}"),
+        StandardCharsets.UTF_8);
+
+    List<CapturedRequest> reads = TrafficReplay.load(file, false);
+    Assertions.assertEquals(reads.size(), 2);
+    Assertions.assertEquals(reads.get(0).getTimestamp(), 10);
+    Assertions.assertEquals(reads.get(1).getDocument(), "query feed { x }");
+    Assertions.assertEquals(TrafficReplay.group(reads.get(1)), "graphql feed");
+    Assertions.assertEquals(TrafficReplay.load(file, true).size(), 4);
+  }
+
+  @Test
+  public void should_report_latency_and_errors_per_route() throws Exception {
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/",
+        exchange -> {
+          int status = exchange.getRequestURI().getPath().equals("/fail") ? 500 : 200;
+          exchange.sendResponseHeaders(status, -1);
+          exchange.close();
+        });
+    server.start();
+    try {
+      TrafficReplay replay =
+          new TrafficReplay(
+              "http://127.0.0.1:" + server.getAddress().getPort(), 0, 2, Collections.emptyList());
+      ReplayReport report =
+          replay.run(
+              Arrays.asList(
+                  request(0, "/articles/a", "/articles/{slug}"),
+                  request(5, "/articles/b", "/articles/{slug}"),
+                  request(10, "/fail", null)));
+
+      Assertions.assertEquals(report.group("GET /articles/{slug}").getCount(), 2);
+      Assertions.assertEquals(report.group("GET /articles/{slug}").errorRate(), 0.0);
+      Assertions.assertEquals(report.group("GET /fail").errorRate(), 1.0);
+      Assertions.assertEquals(report.group(ReplayReport.TOTAL).getCount(), 3);
+      Assertions.assertEquals(report.lines(1_000_000_000L).size(), 5);
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void should_classify_outcomes() {
+    Assertions.assertEquals(
+        TrafficReplay.outcome(200, true, "{\"errors\":[]}"), ReplayReport.Outcome.ERROR);
+    Assertions.assertEquals(TrafficReplay.outcome(200, false, "{}"), ReplayReport.Outcome.OK);
+    Assertions.assertEquals(
+        TrafficReplay.outcome(404, false, ""), ReplayReport.Outcome.CLIENT_ERROR);
+    Assertions.assertEquals(TrafficReplay.outcome(503, false, ""), ReplayReport.Outcome.ERROR);
+  }
+
+  private static CapturedRequest request(long timestamp, String path, String route) {
+    CapturedRequest request = new CapturedRequest();
+    request.setTimestamp(timestamp);
+    request.setMethod("GET");
+    request.setPath(path);
+    request.setRoute(route);
+    return request;
+  }
+}
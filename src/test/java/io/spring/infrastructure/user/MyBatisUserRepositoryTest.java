@@ -4,6 +4,9 @@ import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.mybatis.mapper.UserMapper;
+import io.spring.infrastructure.repository.DuplicatedValueException;
+import io.spring.infrastructure.repository.GroupCommitWriter;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
@@ -12,9 +15,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
-@Import(MyBatisUserRepository.class)
+@Import({MyBatisUserRepository.class, GroupCommitWriter.class})
 public class MyBatisUserRepositoryTest extends DbTestBase {
   @Autowired private UserRepository userRepository;
+  @Autowired private UserMapper userMapper;
   private User user;
 
   @BeforeEach
@@ -31,6 +35,29 @@ public class MyBatisUserRepositoryTest extends DbTestBase {
     Assertions.assertEquals(userOptional2.get(), user);
   }
 
+  @Test
+  public void should_probe_username_and_email_existence() {
+    Assertions.assertFalse(userRepository.existsByUsername("aisensiy"));
+    Assertions.assertFalse(userRepository.existsByEmail("aisensiy@163.com"));
+
+    userRepository.save(user);
+
+    Assertions.assertTrue(userRepository.existsByUsername("aisensiy"));
+    Assertions.assertTrue(userRepository.existsByEmail("aisensiy@163.com"));
+    Assertions.assertFalse(userRepository.existsByUsername("someone-else"));
+  }
+
+  @Test
+  public void should_report_duplicated_username_inserted_elsewhere() {
+    Assertions.assertFalse(userRepository.existsByUsername("aisensiy"));
+    userMapper.insert(new User("other@163.com", "aisensiy", "123", "", ""));
+
+    DuplicatedValueException e =
+        Assertions.assertThrows(DuplicatedValueException.class, () -> userRepository.save(user));
+    Assertions.assertEquals(e.getField(), "username");
+    Assertions.assertEquals(e.getReason(), "duplicated username");
+  }
+
   @Test
   public void should_update_user_success() {
     String newEmail = "newemail@email.com";